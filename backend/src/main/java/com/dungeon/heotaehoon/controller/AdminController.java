@@ -109,7 +109,10 @@ public class AdminController {
                 aiQuizGenerationService.generateQuizzesForBoss(
                     savedBoss.getId(), 
                     subject != null ? subject : title, 
-                    quizCount
+                    quizCount,
+                    progress -> log.info("Quiz generation for boss {}: {}/{} saved ({}/{} chunks, round {})",
+                        savedBoss.getId(), progress.saved(), progress.requested(),
+                        progress.chunksDone(), progress.chunksTotal(), progress.round())
                 );
                 log.info("AI quizzes generated for boss: {} (count: {})", savedBoss.getId(), quizCount);
             } catch (Exception e) {
@@ -2,8 +2,10 @@ package com.dungeon.heotaehoon.controller;
 
 import com.dungeon.heotaehoon.service.BuildMakerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -21,6 +23,11 @@ public class BuildMakerController {
         return ResponseEntity.ok(result);
     }
     
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLecture(@RequestBody Map<String, Object> request) {
+        return buildMakerService.streamAILecture(request);
+    }
+    
     @GetMapping("/lectures")
     public ResponseEntity<List<Map<String, Object>>> getAllLectures() {
         List<Map<String, Object>> lectures = buildMakerService.getAllLectures();
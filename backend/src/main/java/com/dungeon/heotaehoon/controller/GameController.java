@@ -5,6 +5,7 @@ import com.dungeon.heotaehoon.dto.QuizAnswerResponse;
 import com.dungeon.heotaehoon.entity.Student;
 import com.dungeon.heotaehoon.repository.StudentRepository;
 import com.dungeon.heotaehoon.service.GameService;
+import com.dungeon.heotaehoon.service.StudentProgressAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,10 +20,12 @@ public class GameController {
 
     private final GameService gameService;
     private final StudentRepository studentRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     @GetMapping("/student/{username}")
     public ResponseEntity<Student> getStudent(@PathVariable String username) {
         return studentRepository.findByUsername(username)
+                .map(progressAccumulator::overlay)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,13 +1,19 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.service.OcrJob;
+import com.dungeon.heotaehoon.service.OcrJobService;
 import com.dungeon.heotaehoon.service.OcrService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -16,18 +22,20 @@ import java.util.*;
 public class OcrController {
     
     private final OcrService ocrService;
+    private final OcrJobService ocrJobService;
 
     @PostMapping("/extract")
     public ResponseEntity<Map<String, Object>> extractQuestions(@RequestParam("file") MultipartFile file) {
         log.info("OCR extraction request for file: {}", file.getOriginalFilename());
         
         try {
-            List<OcrService.QuestionData> questions = ocrService.extractQuestionsFromPdf(file);
+            OcrService.PdfExtraction extraction = ocrService.extractFromPdf(file);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("questions", questions);
-            response.put("count", questions.size());
+            response.put("questions", extraction.questions());
+            response.put("count", extraction.questions().size());
+            response.put("pages", extraction.pages());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -60,4 +68,74 @@ public class OcrController {
             return ResponseEntity.status(500).body(error);
         }
     }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> submitJob(@RequestParam("file") MultipartFile file) {
+        try {
+            OcrJob job = ocrJobService.submit(file);
+            Map<String, Object> response = job.snapshot();
+            response.put("statusUrl", "/api/ocr/jobs/" + job.getId());
+            response.put("resultUrl", "/api/ocr/jobs/" + job.getId() + "/result");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (RejectedExecutionException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "30").body(error);
+        } catch (Exception e) {
+            log.error("OCR job submission failed", e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "OCR 작업 등록 실패: " + e.getMessage());
+            return ResponseEntity.status(500).body(error);
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String jobId) {
+        return ocrJobService.find(jobId)
+            .map(job -> ResponseEntity.ok(job.snapshot()))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<Map<String, Object>> getJobResult(@PathVariable String jobId) {
+        return ocrJobService.find(jobId)
+            .map(job -> {
+                if (OcrJob.COMPLETED.equals(job.getStatus())) {
+                    Map<String, Object> result = job.result();
+                    result.put("success", true);
+                    return ResponseEntity.ok(result);
+                }
+                if (OcrJob.FAILED.equals(job.getStatus())) {
+                    Map<String, Object> result = job.snapshot();
+                    result.put("success", false);
+                    return ResponseEntity.status(500).body(result);
+                }
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.snapshot());
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJob(@PathVariable String jobId) {
+        return ocrJobService.stream(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/jobs/stats")
+    public ResponseEntity<Map<String, Object>> jobStats() {
+        return ResponseEntity.ok(ocrJobService.stats());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> cacheStats() {
+        return ResponseEntity.ok(ocrService.cacheStats());
+    }
+
+    @GetMapping("/engine/stats")
+    public ResponseEntity<Map<String, Object>> engineStats() {
+        return ResponseEntity.ok(ocrService.engineStats());
+    }
 }
@@ -96,12 +96,7 @@ public class QuizController {
                 }
                 
                 try {
-                    for (int i = 0; i < correctCount; i++) {
-                        mentalBreakerService.processMentalBreak(studentId, true);
-                    }
-                    for (int i = 0; i < wrongCount; i++) {
-                        mentalBreakerService.processMentalBreak(studentId, false);
-                    }
+                    mentalBreakerService.processMentalBreaks(studentId, correctCount, wrongCount, true);
                     log.info("멘탈 시스템 업데이트: {} 정답, {} 오답", correctCount, wrongCount);
                 } catch (Exception e) {
                     log.error("멘탈 시스템 업데이트 실패: {}", e.getMessage());
@@ -4,8 +4,10 @@ import com.dungeon.heotaehoon.entity.RaidBoss;
 import com.dungeon.heotaehoon.entity.RaidSession;
 import com.dungeon.heotaehoon.service.RaidService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,11 @@ public class RaidController {
         return ResponseEntity.ok(raidService.getRaidSessionDetails(sessionId));
     }
 
+    @GetMapping(value = "/sessions/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSession(@PathVariable String sessionId) {
+        return raidService.streamRaidSession(sessionId);
+    }
+
     @PostMapping("/sessions")
     public ResponseEntity<Map<String, Object>> createSession(@RequestBody Map<String, String> request) {
         String raidBossId = request.get("raidBossId");
@@ -1,19 +1,19 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.dto.RaidQuestion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import com.dungeon.heotaehoon.service.AIService;
+import com.dungeon.heotaehoon.service.RaidQuestionPool;
 
 import java.util.*;
-import java.util.regex.*;
 
 @RestController
 @RequestMapping("/quiz")
 public class RaidQuizController {
 
     @Autowired
-    private AIService aiService;
+    private RaidQuestionPool raidQuestionPool;
 
     @PostMapping("/generate-raid")
     public ResponseEntity<Map<String, Object>> generateRaidQuiz(@RequestBody Map<String, Object> request) {
@@ -25,9 +25,17 @@ public class RaidQuizController {
                 return ResponseEntity.badRequest().body(Map.of("error", "topic과 difficulty가 필요합니다"));
             }
 
-            String quizJson = aiService.generateQuiz(topic, topic, difficulty);
+            if (!raidQuestionPool.isKnownTopic(topic)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "알 수 없는 레이드 주제입니다"));
+            }
+
+            RaidQuestion question = raidQuestionPool.take(topic, difficulty);
             
-            Map<String, Object> quiz = parseQuizJson(quizJson);
+            Map<String, Object> quiz = new HashMap<>();
+            quiz.put("question", question.getQuestion());
+            quiz.put("options", question.getOptions());
+            quiz.put("correctAnswer", question.getCorrectAnswer());
+            quiz.put("explanation", question.getExplanation());
             quiz.put("damage", 500);
             
             return ResponseEntity.ok(quiz);
@@ -38,6 +46,11 @@ public class RaidQuizController {
         }
     }
 
+    @GetMapping("/raid-pool/stats")
+    public ResponseEntity<Map<String, Object>> getRaidPoolStats() {
+        return ResponseEntity.ok(raidQuestionPool.stats());
+    }
+
     @PostMapping("/check-raid-answer")
     public ResponseEntity<Map<String, Object>> checkRaidAnswer(@RequestBody Map<String, Object> request) {
         try {
@@ -63,54 +76,4 @@ public class RaidQuizController {
             return ResponseEntity.ok(error);
         }
     }
-
-    private Map<String, Object> parseQuizJson(String json) {
-        Map<String, Object> result = new HashMap<>();
-        try {
-            json = json.replace("```json", "").replace("```", "").trim();
-            
-            Pattern questionPattern = Pattern.compile("\"question\"\\s*:\\s*\"([^\"]+)\"");
-            Pattern correctPattern = Pattern.compile("\"correct_answer\"\\s*:\\s*\"([^\"]+)\"");
-            Pattern optionsPattern = Pattern.compile("\"options\"\\s*:\\s*\\[([^\\]]+)\\]");
-            
-            Matcher questionMatcher = questionPattern.matcher(json);
-            Matcher correctMatcher = correctPattern.matcher(json);
-            Matcher optionsMatcher = optionsPattern.matcher(json);
-            
-            if (questionMatcher.find()) {
-                result.put("question", questionMatcher.group(1));
-            }
-            
-            if (correctMatcher.find()) {
-                result.put("correctAnswer", correctMatcher.group(1));
-            }
-            
-            if (optionsMatcher.find()) {
-                String optionsStr = optionsMatcher.group(1);
-                List<String> options = new ArrayList<>();
-                Pattern optionPattern = Pattern.compile("\"([^\"]+)\"");
-                Matcher optionMatcher = optionPattern.matcher(optionsStr);
-                while (optionMatcher.find()) {
-                    options.add(optionMatcher.group(1));
-                }
-                result.put("options", options);
-            }
-            
-            if (!result.containsKey("question")) {
-                result.put("question", "레이드 문제를 불러올 수 없습니다");
-            }
-            if (!result.containsKey("options")) {
-                result.put("options", Arrays.asList("A", "B", "C", "D"));
-            }
-            if (!result.containsKey("correctAnswer")) {
-                result.put("correctAnswer", "A");
-            }
-            
-        } catch (Exception e) {
-            result.put("question", "파싱 오류: " + e.getMessage());
-            result.put("options", Arrays.asList("A", "B", "C", "D"));
-            result.put("correctAnswer", "A");
-        }
-        return result;
-    }
 }
@@ -1,7 +1,9 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.dto.RankedStudent;
 import com.dungeon.heotaehoon.entity.Student;
 import com.dungeon.heotaehoon.repository.StudentRepository;
+import com.dungeon.heotaehoon.service.LeaderboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +11,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -17,13 +22,20 @@ import java.util.stream.Collectors;
 public class RankingController {
 
     private final StudentRepository studentRepository;
+    private final LeaderboardService leaderboardService;
 
     @GetMapping
     public ResponseEntity<List<Student>> getRanking() {
-        List<Student> students = studentRepository.findAll()
+        List<String> ids = leaderboardService.top(LeaderboardService.LEVEL, 100)
                 .stream()
-                .sorted((s1, s2) -> Integer.compare(s2.getLevel(), s1.getLevel()))
-                .limit(100)
+                .map(RankedStudent::getId)
+                .collect(Collectors.toList());
+        Map<String, Student> byId = studentRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+        List<Student> students = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(students);
     }
@@ -1,16 +1,21 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.dto.StudentProgress;
 import com.dungeon.heotaehoon.entity.ShopItem;
 import com.dungeon.heotaehoon.entity.Student;
 import com.dungeon.heotaehoon.repository.ShopItemRepository;
 import com.dungeon.heotaehoon.repository.StudentRepository;
+import com.dungeon.heotaehoon.service.StudentProgressAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/shop")
@@ -19,6 +24,7 @@ public class ShopController {
 
     private final ShopItemRepository shopItemRepository;
     private final StudentRepository studentRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     @GetMapping("/items")
     public ResponseEntity<List<ShopItem>> getAllItems() {
@@ -43,6 +49,7 @@ public class ShopController {
     public ResponseEntity<Map<String, Object>> getInventory(@PathVariable String studentId) {
         try {
             Student student = studentRepository.findById(studentId)
+                    .map(progressAccumulator::overlay)
                     .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
 
             List<String> purchasedItemIds = student.getPurchasedItems();
@@ -62,6 +69,7 @@ public class ShopController {
         }
     }
 
+    @Transactional
     @PostMapping("/buy")
     public ResponseEntity<?> purchaseItem(@RequestBody Map<String, String> request) {
         try {
@@ -88,14 +96,14 @@ public class ShopController {
                 ));
             }
 
-            if (student.getPoints() < item.getPrice()) {
+            Optional<StudentProgress> spent = progressAccumulator.spendPoints(studentId, item.getPrice());
+            if (spent.isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "포인트가 부족합니다"
                 ));
             }
 
-            student.setPoints(student.getPoints() - item.getPrice());
             student.getPurchasedItems().add(itemId);
             
             if ("expression".equals(item.getItemType())) {
@@ -109,11 +117,12 @@ public class ShopController {
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "구매 완료",
-                "remainingPoints", student.getPoints(),
-                "student", student
+                "remainingPoints", spent.get().getPoints(),
+                "student", progressAccumulator.withProgress(student, spent.get())
             ));
             
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", "구매 실패: " + e.getMessage()
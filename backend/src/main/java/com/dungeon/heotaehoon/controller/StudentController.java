@@ -95,8 +95,7 @@ public class StudentController {
         
         if (isCorrect != null && isCorrect) {
             pointsEarned = 5;
-            student.setPoints(student.getPoints() + pointsEarned);
-            studentService.updateProfile(studentId, null, null, null, null);
+            student = studentService.addPoints(studentId, pointsEarned);
             
             try {
                 instructorService.addInstructorExp("default-instructor", 5);
@@ -147,4 +146,11 @@ public class StudentController {
         return ResponseEntity.ok(ranking);
     }
 
+    @GetMapping("/{studentId}/rank")
+    public ResponseEntity<Map<String, Object>> getMyRank(
+            @PathVariable String studentId,
+            @RequestParam(defaultValue = "points") String sortBy) {
+        return ResponseEntity.ok(studentService.getMyRank(studentId, sortBy));
+    }
+
 }
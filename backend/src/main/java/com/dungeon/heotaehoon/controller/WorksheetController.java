@@ -1,25 +1,25 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
+import com.dungeon.heotaehoon.dto.WorksheetSummary;
 import com.dungeon.heotaehoon.entity.Worksheet;
 import com.dungeon.heotaehoon.entity.WorksheetQuestion;
+import com.dungeon.heotaehoon.service.WorksheetExportService;
+import com.dungeon.heotaehoon.service.WorksheetPdfRenderer;
 import com.dungeon.heotaehoon.service.WorksheetService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.font.PDType0Font;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 @Slf4j
@@ -29,31 +29,52 @@ import java.util.*;
 public class WorksheetController {
 
     private final WorksheetService worksheetService;
+    private final WorksheetPdfRenderer worksheetPdfRenderer;
+    private final WorksheetExportService worksheetExportService;
     private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<Map<String, Object>>> getAllWorksheets() {
+    public ResponseEntity<List<Map<String, Object>>> getAllWorksheets(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "0") int limit) {
         try {
-            List<Worksheet> worksheets = worksheetService.getAllWorksheets();
+            LocalDateTime afterCreatedAt = null;
+            String afterId = null;
+            if (cursor != null && !cursor.isBlank()) {
+                int split = cursor.indexOf('_');
+                if (split < 0) {
+                    return ResponseEntity.badRequest().body(new ArrayList<>());
+                }
+                afterCreatedAt = LocalDateTime.parse(cursor.substring(0, split));
+                afterId = cursor.substring(split + 1);
+            }
+            
+            List<WorksheetSummary> worksheets = worksheetService.getWorksheetSummaries(category, afterCreatedAt, afterId, limit);
             List<Map<String, Object>> response = new ArrayList<>();
             
-            for (Worksheet ws : worksheets) {
-                Long questionCount = worksheetService.getQuestionCount(ws.getId());
-                log.info("Worksheet {} has {} questions", ws.getId(), questionCount);
-                
+            for (WorksheetSummary ws : worksheets) {
                 Map<String, Object> wsMap = new HashMap<>();
                 wsMap.put("id", ws.getId());
                 wsMap.put("title", ws.getTitle());
                 wsMap.put("description", ws.getDescription());
                 wsMap.put("category", ws.getCategory() != null ? ws.getCategory() : "기타");
-                wsMap.put("questionCount", questionCount);
+                wsMap.put("questionCount", ws.getQuestionCount());
                 wsMap.put("createdAt", ws.getCreatedAt());
-                wsMap.put("hasOriginalFile", ws.getOriginalFile() != null);
+                wsMap.put("hasOriginalFile", ws.getHasOriginalFile());
                 wsMap.put("originalFileName", ws.getOriginalFileName());
                 response.add(wsMap);
             }
             
-            return ResponseEntity.ok(response);
+            HttpHeaders headers = new HttpHeaders();
+            if (limit > 0 && worksheets.size() == limit) {
+                WorksheetSummary last = worksheets.get(worksheets.size() - 1);
+                headers.set("X-Next-Cursor", last.getCreatedAt() + "_" + last.getId());
+            }
+            
+            return ResponseEntity.ok().headers(headers).body(response);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(new ArrayList<>());
         } catch (Exception e) {
             log.error("Failed to get worksheets", e);
             return ResponseEntity.status(500).body(new ArrayList<>());
@@ -103,7 +124,7 @@ public class WorksheetController {
             response.put("description", worksheet.getDescription());
             response.put("category", worksheet.getCategory() != null ? worksheet.getCategory() : "기타");
             response.put("createdAt", worksheet.getCreatedAt());
-            response.put("hasOriginalFile", worksheet.getOriginalFile() != null);
+            response.put("hasOriginalFile", worksheet.getOriginalFileHash() != null);
             response.put("originalFileName", worksheet.getOriginalFileName());
             
             List<Map<String, Object>> questionList = new ArrayList<>();
@@ -160,9 +181,9 @@ public class WorksheetController {
     }
 
     @GetMapping("/{id}/original")
-    public ResponseEntity<byte[]> viewOriginalFile(@PathVariable String id) {
+    public ResponseEntity<Resource> viewOriginalFile(@PathVariable String id) {
         try {
-            byte[] fileData = worksheetService.getOriginalFile(id);
+            Resource fileData = worksheetService.getOriginalFile(id);
             String fileName = worksheetService.getOriginalFileName(id);
             String fileType = worksheetService.getOriginalFileType(id);
             
@@ -184,21 +205,21 @@ public class WorksheetController {
             
             headers.set(HttpHeaders.CONTENT_DISPOSITION, 
                 "inline; filename*=UTF-8''" + encodedFileName);
-            headers.setContentLength(fileData.length);
+            headers.setContentLength(fileData.contentLength());
             
             return ResponseEntity.ok()
                     .headers(headers)
                     .body(fileData);
         } catch (Exception e) {
             log.error("Failed to view original file", e);
-            return ResponseEntity.status(404).body(new byte[0]);
+            return ResponseEntity.status(404).build();
         }
     }
 
     @GetMapping("/{id}/original/download")
-    public ResponseEntity<byte[]> downloadOriginalFile(@PathVariable String id) {
+    public ResponseEntity<Resource> downloadOriginalFile(@PathVariable String id) {
         try {
-            byte[] fileData = worksheetService.getOriginalFile(id);
+            Resource fileData = worksheetService.getOriginalFile(id);
             String fileName = worksheetService.getOriginalFileName(id);
             String fileType = worksheetService.getOriginalFileType(id);
             
@@ -218,171 +239,98 @@ public class WorksheetController {
             }
             headers.set(HttpHeaders.CONTENT_DISPOSITION, 
                 "attachment; filename*=UTF-8''" + encodedFileName);
-            headers.setContentLength(fileData.length);
+            headers.setContentLength(fileData.contentLength());
             
             return ResponseEntity.ok()
                     .headers(headers)
                     .body(fileData);
         } catch (Exception e) {
             log.error("Failed to download original file", e);
-            return ResponseEntity.status(404).body(new byte[0]);
+            return ResponseEntity.status(404).build();
         }
     }
 
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<byte[]> getPdf(@PathVariable String id) {
+    public ResponseEntity<StreamingResponseBody> getPdf(@PathVariable String id) {
+        return pdfResponse(id, "inline");
+    }
+
+    @GetMapping("/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadPdf(@PathVariable String id) {
+        return pdfResponse(id, "attachment");
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPdfs(
+            @RequestParam(value = "ids", required = false) List<String> ids,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "groupId", required = false) String groupId,
+            @RequestParam(value = "personalized", defaultValue = "false") boolean personalized) {
         try {
-            Worksheet worksheet = worksheetService.getWorksheetById(id);
-            List<WorksheetQuestion> questions = worksheetService.getQuestionsByWorksheetId(id);
+            List<Worksheet> worksheets;
+            if (ids != null && !ids.isEmpty()) {
+                worksheets = worksheetService.getWorksheetsByIds(ids);
+            } else if (category != null) {
+                worksheets = worksheetService.getWorksheetsByCategory(category);
+            } else if (groupId != null) {
+                worksheets = worksheetService.getWorksheetsByGroupId(groupId);
+            } else {
+                return ResponseEntity.badRequest().build();
+            }
+            if (worksheets.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (personalized && groupId == null) {
+                return ResponseEntity.badRequest().build();
+            }
             
-            byte[] pdfBytes = generatePdf(worksheet, questions);
+            List<WorksheetExportService.Document> documents =
+                worksheetExportService.plan(worksheets, personalized ? groupId : null);
+            log.info("Exporting {} worksheet PDFs from {} worksheets", documents.size(), worksheets.size());
             
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + worksheet.getTitle() + ".pdf\"");
-            headers.setContentLength(pdfBytes.length);
+            headers.setContentType(MediaType.parseMediaType("application/zip"));
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"worksheets.zip\"");
             
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(pdfBytes);
+                    .body(outputStream -> worksheetExportService.writeZip(documents, outputStream));
         } catch (Exception e) {
-            log.error("Failed to get PDF", e);
-            return ResponseEntity.status(500).body(new byte[0]);
+            log.error("Failed to export worksheet PDFs", e);
+            return ResponseEntity.status(500).build();
         }
     }
 
-    @GetMapping("/{id}/download")
-    public ResponseEntity<byte[]> downloadPdf(@PathVariable String id) {
+    @GetMapping("/pdf/cache/stats")
+    public ResponseEntity<Map<String, Object>> getPdfCacheStats() {
+        return ResponseEntity.ok(worksheetPdfRenderer.stats());
+    }
+
+    private ResponseEntity<StreamingResponseBody> pdfResponse(String id, String disposition) {
         try {
             Worksheet worksheet = worksheetService.getWorksheetById(id);
-            List<WorksheetQuestion> questions = worksheetService.getQuestionsByWorksheetId(id);
-            
-            byte[] pdfBytes = generatePdf(worksheet, questions);
+            QuestionSetVersion questionSet = worksheetService.getQuestionSetVersion(id);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + worksheet.getTitle() + ".pdf\"");
-            headers.setContentLength(pdfBytes.length);
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, disposition + "; filename=\"" + worksheet.getTitle() + ".pdf\"");
+            
+            Optional<byte[]> cached = worksheetPdfRenderer.cached(worksheet, questionSet);
+            if (cached.isPresent()) {
+                byte[] pdfBytes = cached.get();
+                headers.setContentLength(pdfBytes.length);
+                return ResponseEntity.ok()
+                        .headers(headers)
+                        .body(outputStream -> outputStream.write(pdfBytes));
+            }
             
+            List<WorksheetQuestion> questions = worksheetService.getQuestionsByWorksheetId(id);
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(pdfBytes);
+                    .body(outputStream -> worksheetPdfRenderer.renderAndCache(worksheet, questionSet, questions, outputStream));
         } catch (Exception e) {
-            log.error("Failed to download PDF", e);
-            return ResponseEntity.status(500).body(new byte[0]);
-        }
-    }
-
-    private byte[] generatePdf(Worksheet worksheet, List<WorksheetQuestion> questions) throws Exception {
-        PDDocument document = new PDDocument();
-        
-        try {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
-            
-            PDPageContentStream contentStream = new PDPageContentStream(document, page);
-            
-            float margin = 50;
-            float yPosition = page.getMediaBox().getHeight() - margin;
-            float leading = 15f;
-            
-            PDType0Font font;
-            try {
-                InputStream fontStream = new ClassPathResource("fonts/NanumGothic.ttf").getInputStream();
-                font = PDType0Font.load(document, fontStream);
-            } catch (Exception e) {
-                log.warn("Korean font not found, using fallback");
-                font = PDType0Font.load(document, this.getClass().getResourceAsStream("/fonts/NanumGothic.ttf"));
-            }
-            
-            contentStream.beginText();
-            contentStream.setFont(font, 18);
-            contentStream.newLineAtOffset(margin, yPosition);
-            contentStream.showText(worksheet.getTitle());
-            contentStream.endText();
-            
-            yPosition -= 30;
-            
-            if (worksheet.getDescription() != null && !worksheet.getDescription().isEmpty()) {
-                contentStream.beginText();
-                contentStream.setFont(font, 11);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText(worksheet.getDescription());
-                contentStream.endText();
-                yPosition -= 25;
-            }
-            
-            String categoryText = "카테고리: " + (worksheet.getCategory() != null ? worksheet.getCategory() : "기타");
-            contentStream.beginText();
-            contentStream.setFont(font, 10);
-            contentStream.newLineAtOffset(margin, yPosition);
-            contentStream.showText(categoryText);
-            contentStream.endText();
-            
-            yPosition -= 40;
-            
-            for (WorksheetQuestion q : questions) {
-                if (yPosition < margin + 150) {
-                    contentStream.close();
-                    page = new PDPage(PDRectangle.A4);
-                    document.addPage(page);
-                    contentStream = new PDPageContentStream(document, page);
-                    yPosition = page.getMediaBox().getHeight() - margin;
-                }
-                
-                String questionText = q.getQuestionNumber() + ". " + q.getQuestionText();
-                contentStream.beginText();
-                contentStream.setFont(font, 12);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText(questionText);
-                contentStream.endText();
-                
-                yPosition -= 25;
-                
-                if ("multiple_choice".equals(q.getQuestionType())) {
-                    contentStream.setFont(font, 11);
-                    
-                    if (q.getOptionA() != null) {
-                        contentStream.beginText();
-                        contentStream.newLineAtOffset(margin + 20, yPosition);
-                        contentStream.showText("1) " + q.getOptionA());
-                        contentStream.endText();
-                        yPosition -= leading;
-                    }
-                    if (q.getOptionB() != null) {
-                        contentStream.beginText();
-                        contentStream.newLineAtOffset(margin + 20, yPosition);
-                        contentStream.showText("2) " + q.getOptionB());
-                        contentStream.endText();
-                        yPosition -= leading;
-                    }
-                    if (q.getOptionC() != null) {
-                        contentStream.beginText();
-                        contentStream.newLineAtOffset(margin + 20, yPosition);
-                        contentStream.showText("3) " + q.getOptionC());
-                        contentStream.endText();
-                        yPosition -= leading;
-                    }
-                    if (q.getOptionD() != null) {
-                        contentStream.beginText();
-                        contentStream.newLineAtOffset(margin + 20, yPosition);
-                        contentStream.showText("4) " + q.getOptionD());
-                        contentStream.endText();
-                        yPosition -= leading;
-                    }
-                }
-                
-                yPosition -= 25;
-            }
-            
-            contentStream.close();
-            
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            document.save(baos);
-            return baos.toByteArray();
-            
-        } finally {
-            document.close();
+            log.error("Failed to render PDF for worksheet {}", id, e);
+            return ResponseEntity.status(500).build();
         }
     }
 
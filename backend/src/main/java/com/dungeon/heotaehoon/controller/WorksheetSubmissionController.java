@@ -1,7 +1,10 @@
 package com.dungeon.heotaehoon.controller;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.StudentProgress;
 import com.dungeon.heotaehoon.entity.*;
 import com.dungeon.heotaehoon.repository.*;
+import com.dungeon.heotaehoon.service.StudentProgressAccumulator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +25,7 @@ public class WorksheetSubmissionController {
     private final StudentRepository studentRepository;
     private final StudentSubmissionRepository submissionRepository;
     private final SubmissionAnswerRepository answerRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     @PostMapping
     @Transactional
@@ -91,17 +95,12 @@ public class WorksheetSubmissionController {
             submission.setTotalQuestions(answers.size());
             submissionRepository.save(submission);
             
-            student.setExp(student.getExp() + totalPoints);
-            student.setTotalCorrect(student.getTotalCorrect() + correctCount);
-            student.setTotalWrong(student.getTotalWrong() + (answers.size() - correctCount));
-            student.setPoints(student.getPoints() + totalPoints);
-            
-            while (student.getExp() >= student.getLevel() * 100) {
-                student.setExp(student.getExp() - (student.getLevel() * 100));
-                student.setLevel(student.getLevel() + 1);
-            }
-            
-            studentRepository.save(student);
+            StudentProgress progress = progressAccumulator.apply(studentId, ProgressDelta.builder()
+                    .exp(totalPoints)
+                    .points(totalPoints)
+                    .correct(correctCount)
+                    .wrong(answers.size() - correctCount)
+                    .build()).after();
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -112,9 +111,9 @@ public class WorksheetSubmissionController {
             response.put("percentage", (int)((correctCount * 100.0) / answers.size()));
             response.put("results", results);
             response.put("student", Map.of(
-                "level", student.getLevel(),
-                "exp", student.getExp(),
-                "points", student.getPoints()
+                "level", progress.getLevel(),
+                "exp", progress.getExp(),
+                "points", progress.getPoints()
             ));
             
             log.info("Submission completed - Score: {}, Correct: {}/{}", 
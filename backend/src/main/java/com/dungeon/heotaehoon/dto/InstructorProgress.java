@@ -0,0 +1,15 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InstructorProgress {
+    private String instructorId;
+    private Integer previousLevel;
+    private Integer level;
+    private Integer exp;
+}
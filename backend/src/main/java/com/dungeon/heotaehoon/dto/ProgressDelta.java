@@ -0,0 +1,16 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgressDelta {
+    private int exp;
+    private int points;
+    private int correct;
+    private int wrong;
+    private int mental;
+}
@@ -0,0 +1,15 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionSetVersion {
+    private Long questionCount;
+    private LocalDateTime lastUpdated;
+}
@@ -0,0 +1,17 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RaidQuestion {
+    private String question;
+    private List<String> options;
+    private String correctAnswer;
+    private String explanation;
+}
@@ -0,0 +1,18 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankedStudent {
+    private String id;
+    private String displayName;
+    private Integer level;
+    private Integer exp;
+    private Integer points;
+    private Integer totalCorrect;
+    private Integer totalWrong;
+}
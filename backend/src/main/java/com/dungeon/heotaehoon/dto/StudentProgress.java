@@ -0,0 +1,18 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class StudentProgress {
+    private String studentId;
+    private Integer level;
+    private Integer exp;
+    private Integer points;
+    private Integer totalCorrect;
+    private Integer totalWrong;
+    private Integer mentalGauge;
+}
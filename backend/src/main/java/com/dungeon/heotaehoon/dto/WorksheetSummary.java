@@ -0,0 +1,21 @@
+package com.dungeon.heotaehoon.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorksheetSummary {
+    private String id;
+    private String title;
+    private String description;
+    private String category;
+    private LocalDateTime createdAt;
+    private Boolean hasOriginalFile;
+    private String originalFileName;
+    private Long questionCount;
+}
@@ -26,11 +26,11 @@ public class Instructor {
     private String name;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer level = 1;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer exp = 0;
 
     @Column(length = 500)
@@ -56,6 +56,10 @@ public class Instructor {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
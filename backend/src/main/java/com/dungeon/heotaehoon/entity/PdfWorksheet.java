@@ -5,7 +5,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "pdf_worksheets")
+@Table(name = "pdf_worksheets", indexes = @Index(name = "idx_pdf_worksheets_pdf_hash", columnList = "pdf_hash"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,8 +25,11 @@ public class PdfWorksheet {
     @Column(nullable = false)
     private String category;
 
-    @Column(name = "pdf_content", columnDefinition = "BYTEA")
-    private byte[] pdfContent;
+    @Column(name = "pdf_hash", length = 64)
+    private String pdfHash;
+
+    @Column(name = "pdf_size")
+    private Long pdfSize;
 
     private String fileName;
 
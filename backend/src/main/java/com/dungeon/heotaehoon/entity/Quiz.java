@@ -48,6 +48,9 @@ public class Quiz {
     @Column(name = "difficulty_level")
     private Integer difficultyLevel;
 
+    @Column(name = "raid_topic")
+    private String raidTopic;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
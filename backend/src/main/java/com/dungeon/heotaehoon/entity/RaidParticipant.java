@@ -2,6 +2,7 @@ package com.dungeon.heotaehoon.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -10,7 +11,8 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@DynamicUpdate
 public class RaidParticipant {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -25,11 +27,11 @@ public class RaidParticipant {
     private Student student;
 
     @Builder.Default
-    @Column(name = "damage_dealt", nullable = false)
+    @Column(name = "damage_dealt", nullable = false, updatable = false)
     private Integer damageDealt = 0;
 
     @Builder.Default
-    @Column(name = "correct_answers", nullable = false)
+    @Column(name = "correct_answers", nullable = false, updatable = false)
     private Integer correctAnswers = 0;
 
     @Builder.Default
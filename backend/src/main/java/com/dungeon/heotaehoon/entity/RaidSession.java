@@ -2,6 +2,7 @@ package com.dungeon.heotaehoon.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -10,7 +11,8 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@DynamicUpdate
 public class RaidSession {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -27,10 +29,10 @@ public class RaidSession {
     @Column(name = "session_status", length = 50)
     private String sessionStatus;
 
-    @Column(name = "current_hp", nullable = false)
+    @Column(name = "current_hp", nullable = false, updatable = false)
     private Integer currentHp;
 
-    @Column(name = "total_damage_dealt", nullable = false)
+    @Column(name = "total_damage_dealt", nullable = false, updatable = false)
     private Integer totalDamageDealt;
 
     @Column(name = "participant_count", nullable = false)
@@ -1,7 +1,9 @@
 package com.dungeon.heotaehoon.entity;
 
+import com.dungeon.heotaehoon.service.StudentLeaderboardListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,11 +11,13 @@ import java.util.List;
 
 @Entity
 @Table(name = "students")
+@EntityListeners(StudentLeaderboardListener.class)
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Student {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -46,27 +50,27 @@ public class Student {
     private StudentGroup group;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer level = 1;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer exp = 0;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer points = 0;
 
     @Builder.Default
-    @Column(name = "total_correct", nullable = false)
+    @Column(name = "total_correct", nullable = false, updatable = false)
     private Integer totalCorrect = 0;
 
     @Builder.Default
-    @Column(name = "total_wrong", nullable = false)
+    @Column(name = "total_wrong", nullable = false, updatable = false)
     private Integer totalWrong = 0;
 
     @Builder.Default
-    @Column(name = "mental_gauge", nullable = false)
+    @Column(name = "mental_gauge", nullable = false, updatable = false)
     private Integer mentalGauge = 100;
 
     @Builder.Default
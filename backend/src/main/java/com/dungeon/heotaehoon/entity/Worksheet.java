@@ -5,7 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "worksheets")
+@Table(name = "worksheets", indexes = {
+        @Index(name = "idx_worksheets_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_worksheets_original_file_hash", columnList = "original_file_hash")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,8 +31,11 @@ public class Worksheet {
     @Column(name = "group_id")
     private String groupId;
 
-    @Column(name = "original_file", columnDefinition = "BYTEA")
-    private byte[] originalFile;
+    @Column(name = "original_file_hash", length = 64)
+    private String originalFileHash;
+
+    @Column(name = "original_file_size")
+    private Long originalFileSize;
 
     @Column(name = "original_file_name")
     private String originalFileName;
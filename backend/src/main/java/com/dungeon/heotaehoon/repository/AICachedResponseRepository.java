@@ -0,0 +1,22 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.entity.AICachedResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AICachedResponseRepository extends JpaRepository<AICachedResponse, String> {
+    Optional<AICachedResponse> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AICachedResponse r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,10 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.dto.InstructorProgress;
+
+import java.util.Optional;
+
+public interface InstructorCounterRepository {
+    Optional<InstructorProgress> incrementExp(String instructorId, int amount);
+    void applyLevelUp(String instructorId, int level, String title);
+}
@@ -0,0 +1,49 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.dto.InstructorProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class InstructorCounterRepositoryImpl implements InstructorCounterRepository {
+
+    private static final String TOTAL_EXP = "(50 * level * (level - 1) + exp + ?)";
+    private static final String NEW_LEVEL =
+            "GREATEST(level, CAST(FLOOR((1 + SQRT(GREATEST(1, 1 + 8.0 * " + TOTAL_EXP + " / 100))) / 2) AS INTEGER))";
+
+    private static final String INCREMENT_EXP_SQL =
+            "WITH previous AS (SELECT id, level AS previous_level FROM instructors WHERE id = ? FOR UPDATE) " +
+            "UPDATE instructors i SET level = " + NEW_LEVEL + ", " +
+            "exp = " + TOTAL_EXP + " - 50 * " + NEW_LEVEL + " * (" + NEW_LEVEL + " - 1), updated_at = ? " +
+            "FROM previous WHERE i.id = previous.id " +
+            "RETURNING i.id, previous.previous_level, i.level, i.exp";
+
+    private static final String LEVEL_UP_SQL =
+            "UPDATE instructors SET current_title = ?, rage_gauge = GREATEST(0, rage_gauge - 10), " +
+            "version = version + 1, updated_at = ? WHERE id = ? AND level = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<InstructorProgress> incrementExp(String instructorId, int amount) {
+        List<InstructorProgress> rows = jdbcTemplate.query(INCREMENT_EXP_SQL,
+                (rs, rowNum) -> InstructorProgress.builder()
+                        .instructorId(rs.getString("id"))
+                        .previousLevel(rs.getInt("previous_level"))
+                        .level(rs.getInt("level"))
+                        .exp(rs.getInt("exp"))
+                        .build(),
+                instructorId, amount, amount, amount, amount, Timestamp.valueOf(LocalDateTime.now()));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public void applyLevelUp(String instructorId, int level, String title) {
+        jdbcTemplate.update(LEVEL_UP_SQL, title, Timestamp.valueOf(LocalDateTime.now()), instructorId, level);
+    }
+}
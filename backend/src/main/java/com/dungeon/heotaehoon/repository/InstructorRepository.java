@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface InstructorRepository extends JpaRepository<Instructor, String> {
+public interface InstructorRepository extends JpaRepository<Instructor, String>, InstructorCounterRepository {
     Optional<Instructor> findByName(String name);
     Optional<Instructor> findByUsername(String username);
 }
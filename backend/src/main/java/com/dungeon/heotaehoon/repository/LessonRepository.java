@@ -14,4 +14,5 @@ public interface LessonRepository extends JpaRepository<Lesson, String> {
     Optional<Lesson> findByLessonDateAndIsActive(LocalDate lessonDate, Boolean isActive);
     List<Lesson> findByGroupAndIsActiveTrue(StudentGroup group);
     List<Lesson> findByGroupIsNullAndIsActiveTrue();
+    List<Lesson> findByIsActiveTrue();
 }
@@ -6,4 +6,5 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PdfWorksheetRepository extends JpaRepository<PdfWorksheet, String> {
+    boolean existsByPdfHash(String pdfHash);
 }
@@ -2,6 +2,7 @@ package com.dungeon.heotaehoon.repository;
 
 import com.dungeon.heotaehoon.entity.Lesson;
 import com.dungeon.heotaehoon.entity.Quiz;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,4 +14,5 @@ public interface QuizRepository extends JpaRepository<Quiz, String> {
     List<Quiz> findByLessonOrderByCreatedAtAsc(Lesson lesson);
     List<Quiz> findByBossId(String bossId);
     List<Quiz> findByLessonId(String lessonId);
+    List<Quiz> findByRaidTopicAndDifficultyLevelOrderByCreatedAtAsc(String raidTopic, Integer difficultyLevel, Pageable pageable);
 }
\ No newline at end of file
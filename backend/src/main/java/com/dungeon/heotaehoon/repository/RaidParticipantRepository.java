@@ -2,6 +2,9 @@ package com.dungeon.heotaehoon.repository;
 
 import com.dungeon.heotaehoon.entity.RaidParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,8 @@ import java.util.Optional;
 public interface RaidParticipantRepository extends JpaRepository<RaidParticipant, String> {
     List<RaidParticipant> findByRaidSessionId(String raidSessionId);
     Optional<RaidParticipant> findByRaidSessionIdAndStudentId(String raidSessionId, String studentId);
+
+    @Modifying
+    @Query("UPDATE RaidParticipant p SET p.hasReceivedReward = true WHERE p.id = :id AND (p.hasReceivedReward = false OR p.hasReceivedReward IS NULL)")
+    int markRewardReceived(@Param("id") String id);
 }
@@ -1,9 +1,14 @@
 package com.dungeon.heotaehoon.repository;
 
+import com.dungeon.heotaehoon.dto.RaidDeadline;
 import com.dungeon.heotaehoon.entity.RaidSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +16,11 @@ import java.util.Optional;
 public interface RaidSessionRepository extends JpaRepository<RaidSession, String> {
     List<RaidSession> findBySessionStatusIn(List<String> statuses);
     Optional<RaidSession> findByIdAndSessionStatus(String id, String status);
+
+    @Query("SELECT new com.dungeon.heotaehoon.dto.RaidDeadline(s.id, s.deadline) FROM RaidSession s WHERE s.sessionStatus IN :statuses AND s.deadline IS NOT NULL")
+    List<RaidDeadline> findDeadlinesBySessionStatusIn(@Param("statuses") List<String> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RaidSession s SET s.sessionStatus = 'in_progress', s.startedAt = :startedAt WHERE s.id = :id AND s.sessionStatus = 'waiting' AND (s.deadline IS NULL OR s.deadline > :startedAt)")
+    int markStarted(@Param("id") String id, @Param("startedAt") LocalDateTime startedAt);
 }
@@ -0,0 +1,14 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface StudentCounterRepository {
+    Optional<StudentProgress> incrementProgress(String studentId, ProgressDelta delta);
+    List<String> incrementProgress(Map<String, ProgressDelta> deltas);
+    Optional<StudentProgress> spendPoints(String studentId, int amount);
+}
@@ -0,0 +1,89 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class StudentCounterRepositoryImpl implements StudentCounterRepository {
+
+    private static final String TOTAL_EXP = "(50 * level * (level - 1) + exp + ?)";
+    private static final String NEW_LEVEL =
+            "GREATEST(level, CAST(FLOOR((1 + SQRT(GREATEST(1, 1 + 8.0 * " + TOTAL_EXP + " / 100))) / 2) AS INTEGER))";
+
+    private static final String INCREMENT_SQL =
+            "UPDATE students SET level = " + NEW_LEVEL + ", " +
+            "exp = " + TOTAL_EXP + " - 50 * " + NEW_LEVEL + " * (" + NEW_LEVEL + " - 1), " +
+            "points = points + ?, total_correct = total_correct + ?, total_wrong = total_wrong + ?, " +
+            "mental_gauge = LEAST(100, GREATEST(0, mental_gauge + ?)), updated_at = ? WHERE id = ?";
+
+    private static final String RETURNING =
+            " RETURNING id, level, exp, points, total_correct, total_wrong, mental_gauge";
+
+    private static final String SPEND_POINTS_SQL =
+            "UPDATE students SET points = points - ?, updated_at = ? WHERE id = ? AND points >= ?" + RETURNING;
+
+    private static final RowMapper<StudentProgress> PROGRESS_MAPPER = (rs, rowNum) -> StudentProgress.builder()
+            .studentId(rs.getString("id"))
+            .level(rs.getInt("level"))
+            .exp(rs.getInt("exp"))
+            .points(rs.getInt("points"))
+            .totalCorrect(rs.getInt("total_correct"))
+            .totalWrong(rs.getInt("total_wrong"))
+            .mentalGauge(rs.getInt("mental_gauge"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<StudentProgress> incrementProgress(String studentId, ProgressDelta delta) {
+        List<StudentProgress> rows = jdbcTemplate.query(INCREMENT_SQL + RETURNING, PROGRESS_MAPPER,
+                incrementArgs(studentId, delta));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public List<String> incrementProgress(Map<String, ProgressDelta> deltas) {
+        List<String> studentIds = new ArrayList<>(deltas.keySet());
+        List<Object[]> batch = new ArrayList<>(studentIds.size());
+        for (String studentId : studentIds) {
+            batch.add(incrementArgs(studentId, deltas.get(studentId)));
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(studentIds.get(i));
+            }
+        }
+        return missing;
+    }
+
+    @Override
+    public Optional<StudentProgress> spendPoints(String studentId, int amount) {
+        List<StudentProgress> rows = jdbcTemplate.query(SPEND_POINTS_SQL, PROGRESS_MAPPER,
+                amount, Timestamp.valueOf(LocalDateTime.now()), studentId, amount);
+        return rows.stream().findFirst();
+    }
+
+    private Object[] incrementArgs(String studentId, ProgressDelta delta) {
+        int exp = delta.getExp();
+        return new Object[] {
+                exp,
+                exp, exp, exp,
+                delta.getPoints(), delta.getCorrect(), delta.getWrong(), delta.getMental(),
+                Timestamp.valueOf(LocalDateTime.now()), studentId
+        };
+    }
+}
@@ -1,19 +1,28 @@
 package com.dungeon.heotaehoon.repository;
 
+import com.dungeon.heotaehoon.dto.RankedStudent;
+import com.dungeon.heotaehoon.dto.StudentProgress;
 import com.dungeon.heotaehoon.entity.Student;
 import com.dungeon.heotaehoon.entity.StudentGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, String> {
+public interface StudentRepository extends JpaRepository<Student, String>, StudentCounterRepository {
     Optional<Student> findByUsername(String username);
     Optional<Student> findByDisplayName(String displayName);
     List<Student> findAllByDisplayName(String displayName);
     List<Student> findByGroup(StudentGroup group);
     List<Student> findByGroup_Id(String groupId);
     List<Student> findTop10ByOrderByExpDesc();
+
+    @Query("SELECT new com.dungeon.heotaehoon.dto.RankedStudent(s.id, s.displayName, s.level, s.exp, s.points, s.totalCorrect, s.totalWrong) FROM Student s")
+    List<RankedStudent> findAllRanked();
+
+    @Query("SELECT new com.dungeon.heotaehoon.dto.StudentProgress(s.id, s.level, s.exp, s.points, s.totalCorrect, s.totalWrong, s.mentalGauge) FROM Student s WHERE s.id = :id")
+    Optional<StudentProgress> findProgressById(String id);
 }
@@ -1,8 +1,10 @@
 package com.dungeon.heotaehoon.repository;
 
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
 import com.dungeon.heotaehoon.entity.Worksheet;
 import com.dungeon.heotaehoon.entity.WorksheetQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,7 @@ public interface WorksheetQuestionRepository extends JpaRepository<WorksheetQues
     List<WorksheetQuestion> findByWorksheetOrderByQuestionNumberAsc(Worksheet worksheet);
     Long countByWorksheetId(String worksheetId);
     void deleteByWorksheet(Worksheet worksheet);
+
+    @Query("SELECT new com.dungeon.heotaehoon.dto.QuestionSetVersion(COUNT(q), MAX(q.updatedAt)) FROM WorksheetQuestion q WHERE q.worksheet.id = :worksheetId")
+    QuestionSetVersion findQuestionSetVersion(String worksheetId);
 }
@@ -1,13 +1,28 @@
 package com.dungeon.heotaehoon.repository;
 
+import com.dungeon.heotaehoon.dto.WorksheetSummary;
 import com.dungeon.heotaehoon.entity.Worksheet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface WorksheetRepository extends JpaRepository<Worksheet, String> {
     List<Worksheet> findByGroupId(String groupId);
     List<Worksheet> findByCategory(String category);
+    boolean existsByOriginalFileHash(String originalFileHash);
+
+    @Query("SELECT new com.dungeon.heotaehoon.dto.WorksheetSummary(w.id, w.title, w.description, w.category, w.createdAt, " +
+           "CASE WHEN w.originalFileHash IS NOT NULL THEN true ELSE false END, w.originalFileName, COUNT(q)) " +
+           "FROM Worksheet w LEFT JOIN WorksheetQuestion q ON q.worksheet = w " +
+           "WHERE (:category IS NULL OR COALESCE(w.category, '기타') = :category) " +
+           "AND (:afterCreatedAt IS NULL OR w.createdAt < :afterCreatedAt " +
+           "OR (w.createdAt = :afterCreatedAt AND w.id < :afterId)) " +
+           "GROUP BY w.id, w.title, w.description, w.category, w.createdAt, w.originalFileHash, w.originalFileName " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<WorksheetSummary> findSummaries(String category, LocalDateTime afterCreatedAt, String afterId, Pageable pageable);
 }
@@ -0,0 +1,405 @@
+package com.dungeon.heotaehoon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class AIGateway {
+
+    private static final String OPENAI_CHAT_URL = "https://api.openai.com/v1/chat/completions";
+
+    private final String apiKey;
+    private final Duration defaultTimeout;
+    private final long acquireTimeoutMs;
+    private final int maxConcurrent;
+    private final Semaphore bulkhead;
+    private final ExecutorService executor;
+    private final ExecutorService httpExecutor;
+    private final ExecutorService admissionExecutor;
+    private final boolean virtualThreads;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public AIGateway(@Value("${openai.api.key:}") String apiKey,
+                     @Value("${ai.gateway.max-concurrent:16}") int maxConcurrent,
+                     @Value("${ai.gateway.timeout-ms:30000}") long timeoutMs,
+                     @Value("${ai.gateway.connect-timeout-ms:5000}") long connectTimeoutMs,
+                     @Value("${ai.gateway.acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                     @Value("${ai.gateway.http-threads:4}") int httpThreads,
+                     @Value("${ai.gateway.max-waiting:64}") int maxWaiting) {
+        this.apiKey = apiKey;
+        this.defaultTimeout = Duration.ofMillis(timeoutMs);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxConcurrent = maxConcurrent;
+        this.bulkhead = new Semaphore(maxConcurrent);
+
+        ExecutorService virtual = virtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        if (virtual != null) {
+            this.executor = virtual;
+            this.httpExecutor = virtualThreadExecutor();
+            this.admissionExecutor = virtualThreadExecutor();
+        } else {
+            this.executor = platformExecutor("ai-gateway-", maxConcurrent);
+            this.httpExecutor = platformExecutor("ai-gateway-http-", httpThreads);
+            this.admissionExecutor = admissionExecutor(maxConcurrent, maxWaiting);
+        }
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(httpExecutor)
+                .build();
+
+        log.info("AI gateway ready: maxConcurrent={}, timeout={}ms, virtualThreads={}",
+                maxConcurrent, timeoutMs, virtualThreads);
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty();
+    }
+
+    public CompletableFuture<String> chat(ChatRequest chat) {
+        if (!isConfigured()) {
+            return CompletableFuture.failedFuture(new RuntimeException("OpenAI API 키가 설정되지 않았습니다"));
+        }
+
+        Map<String, String> headers = Map.of("Authorization", "Bearer " + apiKey);
+        return send(OPENAI_CHAT_URL, headers, chatBody(chat), chat.timeout())
+                .thenApply(root -> {
+                    JsonNode choices = root.path("choices");
+                    if (!choices.isArray() || choices.isEmpty()) {
+                        throw new RuntimeException("AI 응답에 choices가 없습니다: " + root.path("error").path("message").asText(""));
+                    }
+                    return choices.get(0).path("message").path("content").asText().trim();
+                });
+    }
+
+    public CompletableFuture<String> streamChat(ChatRequest chat, Consumer<String> onDelta) {
+        if (!isConfigured()) {
+            return CompletableFuture.failedFuture(new RuntimeException("OpenAI API 키가 설정되지 않았습니다"));
+        }
+
+        Map<String, Object> body = chatBody(chat);
+        body.put("stream", true);
+        Map<String, String> headers = Map.of("Authorization", "Bearer " + apiKey);
+        Duration deadline = chat.timeout() != null ? chat.timeout() : defaultTimeout;
+        Permit permit = new Permit();
+        AtomicReference<Stream<String>> lines = new AtomicReference<>();
+        CompletableFuture<String> handle = new CompletableFuture<>();
+        handle.whenComplete((result, error) -> {
+            if (handle.isCancelled()) {
+                closeLines(lines);
+            }
+        });
+        requests.increment();
+
+        admit(permit)
+                .thenApplyAsync(ignored -> buildRequest(OPENAI_CHAT_URL, headers, body, deadline), executor)
+                .thenCompose(request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines()))
+                .thenApplyAsync(response -> readStream(response, lines, handle, onDelta), executor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    closeLines(lines);
+                    permit.release();
+                    if (handle.isCancelled()) {
+                        return;
+                    }
+                    recordFailure(OPENAI_CHAT_URL, error);
+                    if (error != null) {
+                        handle.completeExceptionally(error);
+                    } else {
+                        handle.complete(result);
+                    }
+                });
+        return handle;
+    }
+
+    private void closeLines(AtomicReference<Stream<String>> lines) {
+        Stream<String> open = lines.getAndSet(null);
+        if (open != null) {
+            open.close();
+        }
+    }
+
+    private Map<String, Object> chatBody(ChatRequest chat) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", chat.model());
+        List<Map<String, String>> messages = new ArrayList<>();
+        if (chat.systemPrompt() != null) {
+            messages.add(Map.of("role", "system", "content", chat.systemPrompt()));
+        }
+        messages.add(Map.of("role", "user", "content", chat.userPrompt()));
+        body.put("messages", messages);
+        if (chat.maxTokens() != null) {
+            body.put("max_tokens", chat.maxTokens());
+        }
+        if (chat.temperature() != null) {
+            body.put("temperature", chat.temperature());
+        }
+        return body;
+    }
+
+    public CompletableFuture<JsonNode> postJson(String url, Object body, Duration timeout) {
+        return send(url, Map.of(), body, timeout);
+    }
+
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new RuntimeException("AI 응답 시간 초과", cause);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException(cause != null ? cause.getMessage() : e.getMessage(), cause);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("inFlight", maxConcurrent - bulkhead.availablePermits());
+        stats.put("queued", admissionExecutor instanceof ThreadPoolExecutor pool
+                ? pool.getQueue().size() + bulkhead.getQueueLength() : bulkhead.getQueueLength());
+        stats.put("requests", requests.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("failed", failed.sum());
+        stats.put("virtualThreads", virtualThreads);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        admissionExecutor.shutdownNow();
+        executor.shutdownNow();
+        httpExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<JsonNode> send(String url, Map<String, String> headers, Object body, Duration timeout) {
+        Duration deadline = timeout != null ? timeout : defaultTimeout;
+        Permit permit = new Permit();
+        requests.increment();
+
+        return admit(permit)
+                .thenApplyAsync(ignored -> buildRequest(url, headers, body, deadline), executor)
+                .thenCompose(request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .thenApplyAsync(this::readBody, executor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    permit.release();
+                    recordFailure(url, error);
+                });
+    }
+
+    private CompletableFuture<Void> admit(Permit permit) {
+        if (bulkhead.tryAcquire()) {
+            permit.granted();
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.runAsync(() -> {
+                acquire();
+                permit.granted();
+            }, admissionExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new RuntimeException("AI 요청이 너무 많습니다. 잠시 후 다시 시도하세요"));
+        }
+    }
+
+    private void recordFailure(String url, Throwable error) {
+        if (error == null) {
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            timedOut.increment();
+        } else {
+            failed.increment();
+        }
+        log.warn("AI request to {} failed: {}", url, cause.toString());
+    }
+
+    private void acquire() {
+        try {
+            if (!bulkhead.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new RuntimeException("AI 요청이 너무 많습니다. 잠시 후 다시 시도하세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 요청이 중단되었습니다", e);
+        }
+    }
+
+    private HttpRequest buildRequest(String url, Map<String, String> headers, Object body, Duration deadline) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .timeout(deadline)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+            if (url.startsWith("http://")) {
+                builder.version(HttpClient.Version.HTTP_1_1);
+            }
+            headers.forEach(builder::header);
+            return builder.build();
+        } catch (Exception e) {
+            throw new RuntimeException("AI 요청 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode readBody(HttpResponse<String> response) {
+        try {
+            JsonNode root = objectMapper.readTree(response.body());
+            if (response.statusCode() >= 400) {
+                throw new RuntimeException("AI 서버 오류 (" + response.statusCode() + "): "
+                        + root.path("error").path("message").asText(response.body()));
+            }
+            return root;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("AI 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String readStream(HttpResponse<Stream<String>> response, AtomicReference<Stream<String>> lines,
+                              CompletableFuture<String> handle, Consumer<String> onDelta) {
+        Stream<String> body = response.body();
+        lines.set(body);
+        if (handle.isCancelled()) {
+            throw new CancellationException();
+        }
+        if (response.statusCode() >= 400) {
+            String error = body.collect(Collectors.joining("\n"));
+            throw new RuntimeException("AI 서버 오류 (" + response.statusCode() + "): " + error);
+        }
+
+        StringBuilder content = new StringBuilder();
+        Iterator<String> iterator = body.iterator();
+        while (iterator.hasNext()) {
+            String line = iterator.next();
+            if (handle.isCancelled()) {
+                throw new CancellationException();
+            }
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring(5).trim();
+            if (data.equals("[DONE]")) {
+                break;
+            }
+            try {
+                JsonNode choices = objectMapper.readTree(data).path("choices");
+                if (!choices.isArray() || choices.isEmpty()) {
+                    continue;
+                }
+                String delta = choices.get(0).path("delta").path("content").asText("");
+                if (!delta.isEmpty()) {
+                    content.append(delta);
+                    onDelta.accept(delta);
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("AI 스트림 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+        return content.toString().trim();
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService platformExecutor(String prefix, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ExecutorService admissionExecutor(int threads, int maxWaiting) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxWaiting)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-gateway-admission-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private final class Permit {
+        private final AtomicInteger state = new AtomicInteger();
+
+        private void granted() {
+            if (!state.compareAndSet(0, 1)) {
+                bulkhead.release();
+            }
+        }
+
+        private void release() {
+            if (state.getAndSet(2) == 1) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    public record ChatRequest(String model, String systemPrompt, String userPrompt,
+                              Integer maxTokens, Double temperature, Duration timeout) {
+    }
+}
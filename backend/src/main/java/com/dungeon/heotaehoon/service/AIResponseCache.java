@@ -0,0 +1,212 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.entity.AICachedResponse;
+import com.dungeon.heotaehoon.repository.AICachedResponseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AIResponseCache {
+
+    private final AICachedResponseRepository cachedResponseRepository;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final boolean persistent;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+
+    public AIResponseCache(AICachedResponseRepository cachedResponseRepository,
+                           @Value("${ai.cache.ttl-minutes:60}") long ttlMinutes,
+                           @Value("${ai.cache.max-entries:1000}") int maxEntries,
+                           @Value("${ai.cache.persistent:false}") boolean persistent) {
+        this.cachedResponseRepository = cachedResponseRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxEntries = maxEntries;
+        this.persistent = persistent;
+    }
+
+    public String get(String model, String systemPrompt, String userPrompt, double temperature, Supplier<String> loader) {
+        String key = key(model, systemPrompt, userPrompt, temperature);
+
+        String cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            String value = lookup(key);
+            if (value == null) {
+                value = loadPersistent(key);
+            }
+            if (value == null) {
+                misses.increment();
+                value = loader.get();
+                store(key, model, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("persistentHits", persistentHits.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.cache.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt.isBefore(now)) {
+                    iterator.remove();
+                }
+            }
+        }
+        if (persistent) {
+            try {
+                cachedResponseRepository.deleteExpired(now);
+            } catch (Exception e) {
+                log.warn("Failed to purge expired AI responses: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String lookup(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt.isBefore(LocalDateTime.now())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private String loadPersistent(String key) {
+        if (!persistent) {
+            return null;
+        }
+        try {
+            return cachedResponseRepository.findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                    .map(row -> {
+                        persistentHits.increment();
+                        remember(key, row.getResponse(), row.getExpiresAt());
+                        return row.getResponse();
+                    })
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("Failed to read cached AI response: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String model, String value) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        remember(key, value, expiresAt);
+
+        if (persistent) {
+            try {
+                cachedResponseRepository.save(AICachedResponse.builder()
+                        .cacheKey(key)
+                        .model(model)
+                        .response(value)
+                        .createdAt(now)
+                        .expiresAt(expiresAt)
+                        .build());
+            } catch (Exception e) {
+                log.warn("Failed to persist AI response: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void remember(String key, String value, LocalDateTime expiresAt) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, expiresAt));
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private String await(CompletableFuture<String> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static String key(String model, String systemPrompt, String userPrompt, double temperature) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[] {model, systemPrompt, userPrompt, String.valueOf(Math.round(temperature * 10))}) {
+                byte[] bytes = (part != null ? part : "").getBytes(StandardCharsets.UTF_8);
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(String value, LocalDateTime expiresAt) {
+    }
+}
@@ -1,28 +1,28 @@
 package com.dungeon.heotaehoon.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AIService {
 
-    @Value("${openai.api.key}")
-    private String apiKey;
+    private static final String QUIZ_SYSTEM_PROMPT = "당신은 꼬리물기식 연속 문제를 만드는 교육 전문가입니다. 이전 문제와 자연스럽게 연결되는 심화 문제를 생성합니다.";
+    private static final String TEXT_SYSTEM_PROMPT = "당신은 엄격하지만 학생을 생각하는 허태훈 강사입니다.";
 
     @Value("${openai.model}")
     private String model;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Value("${ai.stream.timeout-ms:180000}")
+    private long streamTimeoutMs;
+
+    private final AIResponseCache responseCache;
+    private final AIGateway aiGateway;
 
     public String generateQuiz(String lessonTitle, String lessonSubject, int difficulty) {
         return generateQuiz(lessonTitle, lessonSubject, difficulty, null, null);
@@ -30,6 +30,17 @@ public class AIService {
 
     public String generateQuiz(String lessonTitle, String lessonSubject, int difficulty, 
                             String previousQuestion, String previousAnswer) {
+        String prompt = buildQuizPrompt(lessonTitle, lessonSubject, difficulty, previousQuestion, previousAnswer);
+        return responseCache.get(model, QUIZ_SYSTEM_PROMPT, prompt, 0.8,
+                () -> requestQuiz(prompt));
+    }
+
+    public String generateFreshQuiz(String lessonTitle, String lessonSubject, int difficulty) {
+        return requestQuiz(buildQuizPrompt(lessonTitle, lessonSubject, difficulty, null, null));
+    }
+
+    private String buildQuizPrompt(String lessonTitle, String lessonSubject, int difficulty,
+                                   String previousQuestion, String previousAnswer) {
         String contextPrompt = "";
         
         if (previousQuestion != null && previousAnswer != null) {
@@ -79,30 +90,14 @@ public class AIService {
             JSON만 출력하고 다른 텍스트는 출력하지 마라.
             """, lessonTitle, lessonSubject, contextPrompt, lessonSubject, difficulty, lessonSubject, difficulty);
 
+        return prompt;
+    }
+
+    private String requestQuiz(String prompt) {
         try {
-            String requestBody = objectMapper.writeValueAsString(new OpenAIRequest(
-                model,
-                new OpenAIRequest.Message[]{
-                    new OpenAIRequest.Message("system", "당신은 꼬리물기식 연속 문제를 만드는 교육 전문가입니다. 이전 문제와 자연스럽게 연결되는 심화 문제를 생성합니다."),
-                    new OpenAIRequest.Message("user", prompt)
-                },
-                1500,
-                0.8
-            ));
-
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.openai.com/v1/chat/completions"))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + apiKey)
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            
-            JsonNode rootNode = objectMapper.readTree(response.body());
-            String content = rootNode.path("choices").get(0).path("message").path("content").asText();
+            String content = aiGateway.await(aiGateway.chat(
+                new AIGateway.ChatRequest(model, QUIZ_SYSTEM_PROMPT, prompt, 1500, 0.8, null)));
             
-            content = content.trim();
             if (content.startsWith("```json")) {
                 content = content.substring(7);
             }
@@ -148,35 +143,21 @@ public class AIService {
         }
     }
 
-    record OpenAIRequest(String model, Message[] messages, int max_tokens, double temperature) {
-        record Message(String role, String content) {}
+    public String generateText(String prompt) {
+        return responseCache.get(model, TEXT_SYSTEM_PROMPT, prompt, 0.9,
+                () -> requestText(prompt));
     }
 
-    public String generateText(String prompt) {
+    public CompletableFuture<String> streamText(String prompt, Consumer<String> onDelta) {
+        return aiGateway.streamChat(
+            new AIGateway.ChatRequest(model, TEXT_SYSTEM_PROMPT, prompt, 4000, 0.9, Duration.ofMillis(streamTimeoutMs)),
+            onDelta);
+    }
+
+    private String requestText(String prompt) {
         try {
-            String requestBody = objectMapper.writeValueAsString(new OpenAIRequest(
-                model,
-                new OpenAIRequest.Message[]{
-                    new OpenAIRequest.Message("system", "당신은 엄격하지만 학생을 생각하는 허태훈 강사입니다."),
-                    new OpenAIRequest.Message("user", prompt)
-                },
-                4000,
-                0.9
-            ));
-
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.openai.com/v1/chat/completions"))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + apiKey)
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            
-            JsonNode rootNode = objectMapper.readTree(response.body());
-            String content = rootNode.path("choices").get(0).path("message").path("content").asText();
-            
-            return content.trim();
+            return aiGateway.await(aiGateway.chat(
+                new AIGateway.ChatRequest(model, TEXT_SYSTEM_PROMPT, prompt, 4000, 0.9, null)));
         } catch (Exception e) {
             throw new RuntimeException("AI 텍스트 생성 실패: " + e.getMessage());
         }
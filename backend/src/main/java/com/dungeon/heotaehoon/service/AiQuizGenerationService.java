@@ -4,40 +4,130 @@ import com.dungeon.heotaehoon.entity.Boss;
 import com.dungeon.heotaehoon.entity.Quiz;
 import com.dungeon.heotaehoon.repository.BossRepository;
 import com.dungeon.heotaehoon.repository.QuizRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AiQuizGenerationService {
-    
+
+    private static final Duration GENERATION_TIMEOUT = Duration.ofSeconds(90);
+    private static final int MAX_ROUNDS = 2;
+
     private final QuizRepository quizRepository;
     private final BossRepository bossRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final AIGateway aiGateway;
+    private final int chunkSize;
+    private final ExecutorService chunkExecutor;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
+
+    public AiQuizGenerationService(QuizRepository quizRepository,
+                                   BossRepository bossRepository,
+                                   AIGateway aiGateway,
+                                   @Value("${quiz.generation.chunk-size:5}") int chunkSize,
+                                   @Value("${quiz.generation.concurrency:4}") int concurrency) {
+        this.quizRepository = quizRepository;
+        this.bossRepository = bossRepository;
+        this.aiGateway = aiGateway;
+        this.chunkSize = Math.max(1, chunkSize);
+        AtomicInteger counter = new AtomicInteger();
+        this.chunkExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-generation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     public List<Quiz> generateQuizzesForBoss(String bossId, String topic, int count) {
+        return generateQuizzesForBoss(bossId, topic, count, progress -> { });
+    }
+
+    public List<Quiz> generateQuizzesForBoss(String bossId, String topic, int count, Consumer<Progress> listener) {
         Boss boss = bossRepository.findById(bossId)
                 .orElseThrow(() -> new RuntimeException("Boss not found"));
-        
+
         log.info("Generating {} quizzes for boss: {} on topic: {}", count, boss.getBossName(), topic);
-        
-        String prompt = String.format(
-            "당신은 '%s' 보스입니다. '%s' 주제로 학생들을 테스트할 객관식 문제 %d개를 생성하세요.\n\n" +
+
+        Set<String> seen = new HashSet<>();
+        for (Quiz existing : quizRepository.findByBossId(bossId)) {
+            seen.add(normalize(existing.getQuestion()));
+        }
+
+        List<Quiz> saved = new ArrayList<>();
+        int rejected = 0;
+        int failedChunks = 0;
+        String lastError = null;
+
+        for (int round = 0; round < MAX_ROUNDS && saved.size() < count; round++) {
+            int remaining = count - saved.size();
+            int chunks = (remaining + chunkSize - 1) / chunkSize;
+
+            CompletionService<List<Quiz>> completion = new ExecutorCompletionService<>(chunkExecutor);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int size = Math.min(chunkSize, remaining - chunk * chunkSize);
+                String prompt = buildPrompt(boss, topic, size, chunk + 1, chunks);
+                completion.submit(() -> generateChunk(boss, prompt, size));
+            }
+
+            for (int done = 1; done <= chunks; done++) {
+                List<Quiz> accepted = new ArrayList<>();
+                try {
+                    for (Quiz quiz : completion.take().get()) {
+                        if (saved.size() + accepted.size() < count && seen.add(normalize(quiz.getQuestion()))) {
+                            accepted.add(quiz);
+                        } else {
+                            rejected++;
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    lastError = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                    log.warn("Quiz chunk failed for boss {}: {}", bossId, lastError);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("AI 퀴즈 생성이 중단되었습니다", e);
+                }
+
+                if (!accepted.isEmpty()) {
+                    saved.addAll(quizRepository.saveAll(accepted));
+                }
+                listener.accept(new Progress(count, saved.size(), rejected, failedChunks, round + 1, done, chunks));
+            }
+        }
+
+        if (saved.isEmpty()) {
+            throw new RuntimeException("AI 퀴즈 생성 실패: " + (lastError != null ? lastError : "유효한 문제가 없습니다"));
+        }
+
+        log.info("Successfully generated {}/{} quizzes ({} rejected, {} failed chunks)",
+                saved.size(), count, rejected, failedChunks);
+        return saved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
+
+    private String buildPrompt(Boss boss, String topic, int count, int chunk, int chunks) {
+        return String.format(
+            "당신은 '%s' 보스입니다. '%s' 주제로 학생들을 테스트할 객관식 문제 %d개를 생성하세요.\n" +
+            "이 요청은 전체 %d개 세트 중 %d번째 세트입니다. 다른 세트와 겹치지 않도록 세부 주제와 관점을 다양하게 선택하세요.\n\n" +
             "각 문제는 다음 JSON 형식으로 작성하세요:\n" +
             "{\n" +
             "  \"question\": \"문제 텍스트\",\n" +
@@ -51,72 +141,57 @@ public class AiQuizGenerationService {
             "}\n\n" +
             "난이도는 1(쉬움)~5(어려움)로 설정하세요.\n" +
             "JSON 배열로 %d개의 문제를 반환하세요.",
-            boss.getBossName(), topic, count, count
+            boss.getBossName(), topic, count, chunks, chunk, count
         );
-        
-        try {
-            String gptResponse = callGPT4(prompt);
-            List<Map<String, Object>> quizData = parseGPTResponse(gptResponse);
-            
-            List<Quiz> quizzes = new ArrayList<>();
-            for (Map<String, Object> data : quizData) {
-                Quiz quiz = Quiz.builder()
-                        .boss(boss)
-                        .question((String) data.get("question"))
-                        .optionA((String) data.get("optionA"))
-                        .optionB((String) data.get("optionB"))
-                        .optionC((String) data.get("optionC"))
-                        .optionD((String) data.get("optionD"))
-                        .correctAnswer((String) data.get("correctAnswer"))
-                        .explanation((String) data.get("explanation"))
-                        .difficultyLevel(((Number) data.getOrDefault("difficultyLevel", 2)).intValue())
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                
-                quizzes.add(quizRepository.save(quiz));
-            }
-            
-            log.info("Successfully generated {} quizzes", quizzes.size());
-            return quizzes;
-            
-        } catch (Exception e) {
-            log.error("Failed to generate quizzes", e);
-            throw new RuntimeException("AI 퀴즈 생성 실패: " + e.getMessage());
+    }
+
+    private List<Quiz> generateChunk(Boss boss, String prompt, int size) throws Exception {
+        JsonNode items = parseGPTResponse(callGPT4(prompt, size));
+
+        List<Quiz> quizzes = new ArrayList<>();
+        for (JsonNode item : items) {
+            toQuiz(boss, item).ifPresent(quizzes::add);
         }
+        return quizzes;
     }
 
-    private String callGPT4(String prompt) throws Exception {
-        if (openaiApiKey == null || openaiApiKey.isEmpty()) {
-            throw new RuntimeException("OpenAI API 키가 설정되지 않았습니다");
+    private Optional<Quiz> toQuiz(Boss boss, JsonNode item) {
+        String question = text(item, "question");
+        String optionA = text(item, "optionA");
+        String optionB = text(item, "optionB");
+        String optionC = text(item, "optionC");
+        String optionD = text(item, "optionD");
+        String correctAnswer = normalizeAnswer(text(item, "correctAnswer"));
+
+        if (question == null || optionA == null || optionB == null || optionC == null || optionD == null
+                || correctAnswer == null) {
+            return Optional.empty();
         }
-        
-        String url = "https://api.openai.com/v1/chat/completions";
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
-        
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-4");
-        requestBody.put("messages", List.of(
-                Map.of("role", "system", "content", "당신은 교육 콘텐츠 전문가입니다."),
-                Map.of("role", "user", "content", prompt)
-        ));
-        requestBody.put("temperature", 0.7);
-        
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-        
-        Map<String, Object> response = restTemplate.postForObject(url, request, Map.class);
-        
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        
-        return (String) message.get("content");
+
+        int difficulty = item.path("difficultyLevel").asInt(2);
+
+        return Optional.of(Quiz.builder()
+                .boss(boss)
+                .question(question)
+                .optionA(optionA)
+                .optionB(optionB)
+                .optionC(optionC)
+                .optionD(optionD)
+                .correctAnswer(correctAnswer)
+                .explanation(text(item, "explanation"))
+                .difficultyLevel(Math.max(1, Math.min(5, difficulty)))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String callGPT4(String prompt, int size) {
+        return aiGateway.await(aiGateway.chat(new AIGateway.ChatRequest(
+                "gpt-4", "당신은 교육 콘텐츠 전문가입니다.", prompt, 400 * size, 0.7, GENERATION_TIMEOUT)));
     }
 
-    private List<Map<String, Object>> parseGPTResponse(String response) throws Exception {
+    private JsonNode parseGPTResponse(String response) throws Exception {
         String jsonContent = response.trim();
-        
+
         if (jsonContent.startsWith("```json")) {
             jsonContent = jsonContent.substring(7);
         }
@@ -126,9 +201,44 @@ public class AiQuizGenerationService {
         if (jsonContent.endsWith("```")) {
             jsonContent = jsonContent.substring(0, jsonContent.length() - 3);
         }
-        
-        jsonContent = jsonContent.trim();
-        
-        return objectMapper.readValue(jsonContent, List.class);
+
+        JsonNode root = objectMapper.readTree(jsonContent.trim());
+        if (root.isObject() && root.has("questions")) {
+            root = root.get("questions");
+        }
+        if (!root.isArray()) {
+            throw new RuntimeException("AI 응답이 JSON 배열이 아닙니다");
+        }
+        return root;
+    }
+
+    private static String text(JsonNode item, String field) {
+        JsonNode value = item.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static String normalizeAnswer(String answer) {
+        if (answer == null) {
+            return null;
+        }
+        return switch (answer.toUpperCase()) {
+            case "1", "A" -> "1";
+            case "2", "B" -> "2";
+            case "3", "C" -> "3";
+            case "4", "D" -> "4";
+            default -> null;
+        };
+    }
+
+    private static String normalize(String question) {
+        return question == null ? "" : question.replaceAll("\\s+", " ").trim().toLowerCase();
+    }
+
+    public record Progress(int requested, int saved, int rejected, int failedChunks,
+                           int round, int chunksDone, int chunksTotal) {
     }
 }
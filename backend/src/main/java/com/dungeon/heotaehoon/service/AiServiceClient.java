@@ -1,19 +1,23 @@
 package com.dungeon.heotaehoon.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.*;
+import java.time.Duration;
 import java.util.Map;
 import java.util.HashMap;
 
 @Service
+@RequiredArgsConstructor
 public class AiServiceClient {
     
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    
     @Value("${ai.service.url:http://localhost:5000}")
     private String aiServiceUrl;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final AIGateway aiGateway;
     
     public String generateRageDialogue(String dialogueType, String studentName, String question, 
                                       String wrongAnswer, String correctAnswer, int combo) {
@@ -28,15 +32,10 @@ public class AiServiceClient {
             request.put("correctAnswer", correctAnswer);
             request.put("combo", combo);
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
-            
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
+            JsonNode response = aiGateway.await(aiGateway.postJson(url, request, TIMEOUT));
             
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return (String) response.getBody().get("dialogue");
+            if (response.hasNonNull("dialogue")) {
+                return response.get("dialogue").asText();
             }
             
             return getFallbackMessage(dialogueType);
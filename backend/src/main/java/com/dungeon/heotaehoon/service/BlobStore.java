@@ -0,0 +1,19 @@
+package com.dungeon.heotaehoon.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+public interface BlobStore {
+    Blob put(InputStream content) throws IOException;
+    Resource get(String hash) throws IOException;
+    boolean exists(String hash);
+    List<String> listOlderThan(Instant cutoff) throws IOException;
+    boolean deleteIfOlderThan(String hash, Instant cutoff) throws IOException;
+
+    record Blob(String hash, long size) {
+    }
+}
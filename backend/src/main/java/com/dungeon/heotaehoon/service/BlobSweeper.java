@@ -0,0 +1,63 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.repository.PdfWorksheetRepository;
+import com.dungeon.heotaehoon.repository.WorksheetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BlobSweeper {
+
+    private final BlobStore blobStore;
+    private final WorksheetRepository worksheetRepository;
+    private final PdfWorksheetRepository pdfWorksheetRepository;
+    private final Duration gracePeriod;
+
+    public BlobSweeper(BlobStore blobStore,
+                       WorksheetRepository worksheetRepository,
+                       PdfWorksheetRepository pdfWorksheetRepository,
+                       @Value("${storage.blob.sweep.grace-minutes:60}") long graceMinutes) {
+        this.blobStore = blobStore;
+        this.worksheetRepository = worksheetRepository;
+        this.pdfWorksheetRepository = pdfWorksheetRepository;
+        this.gracePeriod = Duration.ofMinutes(graceMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.blob.sweep.interval-ms:3600000}",
+            initialDelayString = "${storage.blob.sweep.interval-ms:3600000}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        List<String> candidates;
+        try {
+            candidates = blobStore.listOlderThan(cutoff);
+        } catch (IOException e) {
+            log.warn("Failed to list blobs for sweeping: {}", e.getMessage());
+            return;
+        }
+
+        int deleted = 0;
+        for (String hash : candidates) {
+            if (worksheetRepository.existsByOriginalFileHash(hash) || pdfWorksheetRepository.existsByPdfHash(hash)) {
+                continue;
+            }
+            try {
+                if (blobStore.deleteIfOlderThan(hash, cutoff)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete unreferenced blob {}: {}", hash, e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            log.info("Swept {} unreferenced blobs older than {}", deleted, cutoff);
+        }
+    }
+}
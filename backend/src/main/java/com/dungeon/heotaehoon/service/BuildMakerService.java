@@ -2,22 +2,59 @@ package com.dungeon.heotaehoon.service;
 
 import com.dungeon.heotaehoon.entity.*;
 import com.dungeon.heotaehoon.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BuildMakerService {
     
+    @Value("${lecture.stream.timeout-ms:300000}")
+    private long lectureStreamTimeoutMs;
+    
+    @Value("${lecture.stream.sender-threads:2}")
+    private int lectureStreamSenderThreads;
+    
+    private ExecutorService lectureStreamSender;
+    
     private final AILectureRepository aiLectureRepository;
     private final LectureProgressRepository lectureProgressRepository;
     private final StudentRepository studentRepository;
     private final QuizResultRepository quizResultRepository;
     private final AIService aiService;
     
+    @PostConstruct
+    void startLectureStreamSender() {
+        AtomicInteger counter = new AtomicInteger();
+        lectureStreamSender = Executors.newFixedThreadPool(lectureStreamSenderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "lecture-sse-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    void stopLectureStreamSender() {
+        lectureStreamSender.shutdownNow();
+    }
+    
     @Transactional
     public Map<String, Object> generateAILecture(Map<String, Object> request) {
         String topic = (String) request.get("topic");
@@ -29,6 +66,52 @@ public class BuildMakerService {
         
         String lectureScript = generateLectureScript(topic, syllabus, difficulty, instructorStyle, studentAnalysis);
         
+        AILecture lecture = saveLecture(topic, syllabus, difficulty, instructorStyle, studentAnalysis, lectureScript);
+        
+        return lectureSummary(lecture);
+    }
+    
+    public SseEmitter streamAILecture(Map<String, Object> request) {
+        String topic = (String) request.get("topic");
+        String syllabus = (String) request.get("syllabus");
+        Integer difficulty = (Integer) request.getOrDefault("difficulty", 3);
+        String instructorStyle = (String) request.getOrDefault("instructorStyle", "허태훈");
+        
+        String studentAnalysis = analyzeStudentPerformance(topic);
+        String prompt = buildLecturePrompt(topic, syllabus, difficulty, instructorStyle, studentAnalysis);
+        
+        SseEmitter emitter = new SseEmitter(lectureStreamTimeoutMs);
+        LectureStream stream = new LectureStream(emitter, lectureStreamSender);
+        
+        CompletableFuture<String> upstream = aiService.streamText(prompt, stream::accept);
+        stream.attach(upstream);
+        upstream.whenComplete((script, error) -> stream.finish(() -> {
+            try {
+                String lectureScript = script;
+                if (error != null || script == null || script.isBlank()) {
+                    if (stream.sentSections() > 0) {
+                        log.warn("Lecture stream for {} failed after {} sections", topic, stream.sentSections(), error);
+                        stream.fail("강의 생성이 중단되었습니다");
+                        return;
+                    }
+                    lectureScript = generateDefaultScript(topic, difficulty);
+                    stream.restart(lectureScript);
+                }
+                stream.flush();
+                
+                AILecture lecture = saveLecture(topic, syllabus, difficulty, instructorStyle, studentAnalysis, lectureScript);
+                stream.complete(lectureSummary(lecture));
+            } catch (Exception e) {
+                log.warn("Lecture stream for {} could not be saved", topic, e);
+                stream.fail("강의 저장 실패: " + e.getMessage());
+            }
+        }));
+        
+        return emitter;
+    }
+    
+    private AILecture saveLecture(String topic, String syllabus, int difficulty, String instructorStyle,
+                                  String studentAnalysis, String lectureScript) {
         AILecture lecture = AILecture.builder()
             .lectureName(topic + " - AI 강의")
             .topic(topic)
@@ -41,7 +124,11 @@ public class BuildMakerService {
             .isActive(true)
             .build();
         
-        aiLectureRepository.save(lecture);
+        return aiLectureRepository.save(lecture);
+    }
+    
+    private Map<String, Object> lectureSummary(AILecture lecture) {
+        String lectureScript = lecture.getGeneratedScript();
         
         Map<String, Object> response = new HashMap<>();
         response.put("lectureId", lecture.getId());
@@ -85,7 +172,15 @@ public class BuildMakerService {
     }
     
     private String generateLectureScript(String topic, String syllabus, int difficulty, String style, String studentAnalysis) {
-        String prompt = String.format(
+        try {
+            return aiService.generateText(buildLecturePrompt(topic, syllabus, difficulty, style, studentAnalysis));
+        } catch (Exception e) {
+            return generateDefaultScript(topic, difficulty);
+        }
+    }
+    
+    private String buildLecturePrompt(String topic, String syllabus, int difficulty, String style, String studentAnalysis) {
+        return String.format(
             "너는 '%s' 스타일의 강사야. 다음 조건으로 상세한 강의를 작성해줘.\n\n" +
             "주제: %s\n" +
             "강의 계획:\n%s\n\n" +
@@ -124,12 +219,6 @@ public class BuildMakerService {
             "강의를 작성해줘:",
             style, topic, syllabus, difficulty, studentAnalysis, style
         );
-        
-        try {
-            return aiService.generateText(prompt);
-        } catch (Exception e) {
-            return generateDefaultScript(topic, difficulty);
-        }
     }
     
     private String generateDefaultScript(String topic, int difficulty) {
@@ -290,4 +379,133 @@ public class BuildMakerService {
             return false;
         }
     }
+
+    private static class LectureStream {
+        
+        private final SseEmitter emitter;
+        private final ExecutorService sender;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private LectureSectionBuffer buffer = new LectureSectionBuffer();
+        private CompletableFuture<?> upstream;
+        private int sent;
+        private volatile boolean open = true;
+        
+        LectureStream(SseEmitter emitter, ExecutorService sender) {
+            this.emitter = emitter;
+            this.sender = sender;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(error -> close());
+        }
+        
+        synchronized void attach(CompletableFuture<?> upstream) {
+            this.upstream = upstream;
+            if (!open) {
+                upstream.cancel(true);
+            }
+        }
+        
+        void accept(String delta) {
+            if (!open) {
+                throw new CancellationException("강의 스트림이 종료되었습니다");
+            }
+            enqueue(() -> buffer.append(delta).forEach(this::sendSection));
+        }
+        
+        void finish(Runnable completion) {
+            enqueue(completion);
+        }
+        
+        void restart(String script) {
+            buffer = new LectureSectionBuffer();
+            buffer.append(script).forEach(this::sendSection);
+        }
+        
+        void flush() {
+            buffer.finish().ifPresent(this::sendSection);
+        }
+        
+        int sentSections() {
+            return sent;
+        }
+        
+        void complete(Map<String, Object> summary) {
+            send("complete", summary);
+            if (open) {
+                emitter.complete();
+            }
+        }
+        
+        void fail(String message) {
+            send("error", Map.of("message", message));
+            if (open) {
+                emitter.complete();
+            }
+        }
+        
+        private void enqueue(Runnable task) {
+            if (!open) {
+                return;
+            }
+            tasks.add(task);
+            schedule();
+        }
+        
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (Exception e) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+        
+        private void drain() {
+            try {
+                Runnable task;
+                while (open && (task = tasks.poll()) != null) {
+                    task.run();
+                }
+            } catch (Exception e) {
+                log.debug("Lecture stream task failed", e);
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!open) {
+                tasks.clear();
+            } else if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+        
+        private void sendSection(LectureSectionBuffer.Section section) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("index", sent++);
+            payload.put("section", section.name());
+            payload.put("content", section.content());
+            send("section", payload);
+        }
+        
+        private void send(String name, Object data) {
+            if (!open) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+        
+        private synchronized void close() {
+            open = false;
+            if (upstream != null) {
+                upstream.cancel(true);
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.StudentProgress;
 import com.dungeon.heotaehoon.entity.*;
 import com.dungeon.heotaehoon.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ public class CustomizationService {
     private final CustomizationItemRepository itemRepository;
     private final StudentCustomizationRepository customizationRepository;
     private final StudentRepository studentRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     public Map<String, Object> getCustomization(String studentId) {
         List<StudentCustomization> owned = customizationRepository.findByStudentId(studentId);
@@ -47,12 +49,8 @@ public class CustomizationService {
             throw new RuntimeException("이미 소유한 아이템입니다");
         }
 
-        if (student.getPoints() < item.getPrice()) {
-            throw new RuntimeException("포인트가 부족합니다");
-        }
-
-        student.setPoints(student.getPoints() - item.getPrice());
-        studentRepository.save(student);
+        StudentProgress spent = progressAccumulator.spendPoints(studentId, item.getPrice())
+            .orElseThrow(() -> new RuntimeException("포인트가 부족합니다"));
 
         StudentCustomization customization = StudentCustomization.builder()
             .student(student)
@@ -62,7 +60,7 @@ public class CustomizationService {
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
-        result.put("remainingPoints", student.getPoints());
+        result.put("remainingPoints", spent.getPoints());
         result.put("purchasedItem", item);
 
         return result;
@@ -0,0 +1,218 @@
+package com.dungeon.heotaehoon.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public final class DocxStreamReader {
+
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final String RELATIONSHIPS_PART = "word/_rels/document.xml.rels";
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String RELATIONSHIP_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String DRAWING_NS = "http://schemas.openxmlformats.org/drawingml/2006/main";
+    private static final String VML_NS = "urn:schemas-microsoft-com:vml";
+    private static final String MARKUP_COMPATIBILITY_NS = "http://schemas.openxmlformats.org/markup-compatibility/2006";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newInputFactory();
+
+    private DocxStreamReader() {
+    }
+
+    public static List<Segment> read(ZipFile zip, long maxPartBytes) throws IOException, XMLStreamException {
+        Map<String, String> relationships = readRelationships(zip);
+
+        ZipEntry document = zip.getEntry(DOCUMENT_PART);
+        if (document == null) {
+            throw new IOException("word/document.xml 이 없는 DOCX 파일입니다");
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        Deque<Paragraph> paragraphs = new ArrayDeque<>();
+
+        try (InputStream inputStream = openPart(zip, document, maxPartBytes)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String namespace = reader.getNamespaceURI();
+                        String name = reader.getLocalName();
+
+                        if (MARKUP_COMPATIBILITY_NS.equals(namespace) && name.equals("Fallback")) {
+                            skipElement(reader);
+                        } else if (WORD_NS.equals(namespace)) {
+                            switch (name) {
+                                case "p" -> paragraphs.push(new Paragraph());
+                                case "t" -> {
+                                    String text = reader.getElementText();
+                                    if (!paragraphs.isEmpty()) {
+                                        paragraphs.peek().text.append(text);
+                                    }
+                                }
+                                case "tab" -> appendText(paragraphs, "\t");
+                                case "br", "cr" -> appendText(paragraphs, "\n");
+                                default -> { }
+                            }
+                        } else if (DRAWING_NS.equals(namespace) && name.equals("blip")) {
+                            addImage(paragraphs, relationships, reader.getAttributeValue(RELATIONSHIP_NS, "embed"));
+                        } else if (VML_NS.equals(namespace) && name.equals("imagedata")) {
+                            addImage(paragraphs, relationships, reader.getAttributeValue(RELATIONSHIP_NS, "id"));
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT
+                            && WORD_NS.equals(reader.getNamespaceURI()) && reader.getLocalName().equals("p")
+                            && !paragraphs.isEmpty()) {
+                        Paragraph paragraph = paragraphs.pop();
+                        segments.add(new Segment(paragraph.text.toString(), null));
+                        for (String image : paragraph.images) {
+                            segments.add(new Segment(null, image));
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return segments;
+    }
+
+    public static InputStream openPart(ZipFile zip, ZipEntry entry, long maxBytes) throws IOException {
+        if (entry.getSize() > maxBytes) {
+            throw new IOException("DOCX 파트가 너무 큽니다: " + entry.getName() + " (" + entry.getSize() + " bytes)");
+        }
+        return new BoundedInputStream(zip.getInputStream(entry), entry.getName(), maxBytes);
+    }
+
+    private static Map<String, String> readRelationships(ZipFile zip) throws IOException, XMLStreamException {
+        Map<String, String> relationships = new HashMap<>();
+        ZipEntry entry = zip.getEntry(RELATIONSHIPS_PART);
+        if (entry == null) {
+            return relationships;
+        }
+
+        try (InputStream inputStream = zip.getInputStream(entry)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && reader.getLocalName().equals("Relationship")
+                            && !"External".equals(reader.getAttributeValue(null, "TargetMode"))) {
+                        String id = reader.getAttributeValue(null, "Id");
+                        String target = reader.getAttributeValue(null, "Target");
+                        if (id != null && target != null) {
+                            relationships.put(id, resolve(target));
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return relationships;
+    }
+
+    private static String resolve(String target) {
+        if (target.startsWith("/")) {
+            return target.substring(1);
+        }
+        Deque<String> path = new ArrayDeque<>(List.of("word"));
+        for (String part : target.split("/")) {
+            if (part.equals("..")) {
+                path.pollLast();
+            } else if (!part.isEmpty() && !part.equals(".")) {
+                path.addLast(part);
+            }
+        }
+        return String.join("/", path);
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void appendText(Deque<Paragraph> paragraphs, String text) {
+        if (!paragraphs.isEmpty()) {
+            paragraphs.peek().text.append(text);
+        }
+    }
+
+    private static void addImage(Deque<Paragraph> paragraphs, Map<String, String> relationships, String id) {
+        String part = id != null ? relationships.get(id) : null;
+        if (part != null && !paragraphs.isEmpty()) {
+            paragraphs.peek().images.add(part);
+        }
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    public record Segment(String text, String imagePart) {
+    }
+
+    private static class BoundedInputStream extends FilterInputStream {
+        private final String name;
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, String name, long maxBytes) {
+            super(in);
+            this.name = name;
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                consume(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        private void consume(long bytes) throws IOException {
+            remaining -= bytes;
+            if (remaining < 0) {
+                throw new IOException("DOCX 파트가 너무 큽니다: " + name);
+            }
+        }
+    }
+
+    private static class Paragraph {
+        private final StringBuilder text = new StringBuilder();
+        private final List<String> images = new ArrayList<>();
+    }
+}
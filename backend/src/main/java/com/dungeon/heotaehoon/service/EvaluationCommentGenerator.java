@@ -0,0 +1,163 @@
+package com.dungeon.heotaehoon.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class EvaluationCommentGenerator {
+
+    private static final String SYSTEM_PROMPT = "당신은 교육 평가 전문가입니다.";
+    private static final Duration BATCH_TIMEOUT = Duration.ofSeconds(60);
+    private static final int MAX_CACHED = 5000;
+
+    private final AIGateway aiGateway;
+    private final int batchSize;
+    private final ExecutorService batchExecutor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LinkedHashMap<ScoreKey, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    public EvaluationCommentGenerator(AIGateway aiGateway,
+                                      @Value("${export.comment.batch-size:20}") int batchSize,
+                                      @Value("${export.comment.concurrency:4}") int concurrency) {
+        this.aiGateway = aiGateway;
+        this.batchSize = batchSize;
+        AtomicInteger counter = new AtomicInteger();
+        this.batchExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "export-comment-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Map<ScoreKey, String> comments(List<ScoreKey> scores) {
+        Map<ScoreKey, String> result = new HashMap<>();
+        Set<ScoreKey> uncached = new LinkedHashSet<>();
+
+        synchronized (cache) {
+            for (ScoreKey score : scores) {
+                String cached = cache.get(score);
+                if (cached != null) {
+                    result.put(score, cached);
+                } else {
+                    uncached.add(score);
+                }
+            }
+        }
+
+        List<ScoreKey> missing = new ArrayList<>(uncached);
+
+        if (!missing.isEmpty() && aiGateway.isConfigured()) {
+            List<Future<Map<ScoreKey, String>>> batches = new ArrayList<>();
+            for (int from = 0; from < missing.size(); from += batchSize) {
+                List<ScoreKey> batch = missing.subList(from, Math.min(missing.size(), from + batchSize));
+                batches.add(batchExecutor.submit(() -> generateBatch(batch)));
+            }
+            for (Future<Map<ScoreKey, String>> batch : batches) {
+                try {
+                    Map<ScoreKey, String> generated = batch.get();
+                    result.putAll(generated);
+                    remember(generated);
+                } catch (Exception e) {
+                    log.warn("AI comment batch failed, using template comments: {}", e.getMessage());
+                }
+            }
+        }
+
+        for (ScoreKey score : scores) {
+            result.computeIfAbsent(score, EvaluationCommentGenerator::templateComment);
+        }
+        return result;
+    }
+
+    public static String templateComment(ScoreKey score) {
+        if (score.pf().equals("우수")) {
+            return String.format("%s 능력단위에서 우수한 성과를 보였으며 전반적으로 학습 태도가 모범적임.", score.groupName());
+        } else if (score.pf().equals("미이수")) {
+            return String.format("%s 능력단위 기초 개념 이해는 있으나 실습 수행도가 기준 미달. 추가 학습 필요.", score.groupName());
+        } else {
+            return String.format("%s 능력단위에서 안정적인 이해도를 보이며 수업 참여도가 양호함.", score.groupName());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    private Map<ScoreKey, String> generateBatch(List<ScoreKey> batch) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ScoreKey score = batch.get(i);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", score.studentName());
+            row.put("course", score.groupName());
+            row.put("attendance", score.attendance());
+            row.put("assignment", score.assignment());
+            row.put("exam", score.exam());
+            row.put("total", score.total());
+            row.put("result", score.pf());
+            rows.add(row);
+        }
+
+        String prompt = "다음은 학생별 과정 평가 점수입니다 (출석 20점, 과제 30점, 시험 50점 만점).\n" +
+                objectMapper.writeValueAsString(rows) + "\n\n" +
+                "각 학생에 대해 점수를 바탕으로 1-2문장의 간결하고 구체적인 평가 의견을 작성하세요. " +
+                "긍정적이고 건설적인 톤으로 작성하되, 점수가 낮으면 보완점을 언급하세요.\n" +
+                "반드시 다음 JSON 형식으로만 응답하세요: {\"comments\": [{\"id\": 0, \"comment\": \"평가 의견\"}]}";
+
+        String content = aiGateway.await(aiGateway.chat(new AIGateway.ChatRequest(
+                "gpt-4", SYSTEM_PROMPT, prompt, 120 * batch.size() + 200, null, BATCH_TIMEOUT)));
+
+        content = content.replace("```json", "").replace("```", "").trim();
+        JsonNode comments = objectMapper.readTree(content).path("comments");
+
+        Map<ScoreKey, String> generated = new HashMap<>();
+        for (JsonNode node : comments) {
+            int id = node.path("id").asInt(-1);
+            String comment = node.path("comment").asText("").trim();
+            if (id >= 0 && id < batch.size() && !comment.isEmpty()) {
+                generated.put(batch.get(id), comment);
+            }
+        }
+        if (generated.size() < batch.size()) {
+            log.debug("AI comment batch returned {} of {} comments", generated.size(), batch.size());
+        }
+        return generated;
+    }
+
+    private void remember(Map<ScoreKey, String> generated) {
+        synchronized (cache) {
+            cache.putAll(generated);
+            Iterator<ScoreKey> eldest = cache.keySet().iterator();
+            while (cache.size() > MAX_CACHED && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    public record ScoreKey(String studentId, String studentName, String groupName,
+                           int attendance, int assignment, int exam, int total, String pf) {
+    }
+}
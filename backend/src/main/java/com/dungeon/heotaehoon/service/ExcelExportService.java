@@ -7,9 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -23,13 +21,10 @@ import java.util.*;
 public class ExcelExportService {
 
     private final StudentSubmissionRepository submissionRepository;
-    private final SubmissionAnswerRepository submissionAnswerRepository;
     private final StudentRepository studentRepository;
     private final WorksheetQuestionRepository questionRepository;
     private final PdfWorksheetRepository worksheetRepository;
-    
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
+    private final EvaluationCommentGenerator commentGenerator;
 
     public byte[] generateGroupScoreExcel(String groupId, StudentGroup group) throws IOException {
         Workbook workbook = new XSSFWorkbook();
@@ -85,12 +80,20 @@ public class ExcelExportService {
         }
 
         List<Student> students = studentRepository.findByGroup(group);
+        Map<String, EvaluationCommentGenerator.ScoreKey> scores = new HashMap<>();
+        for (Student student : students) {
+            List<StudentSubmission> submissions = submissionRepository.findByStudent(student);
+            if (!submissions.isEmpty()) {
+                scores.put(student.getId(), scoreOf(student, group.getGroupName(), submissions.get(0)));
+            }
+        }
+        Map<EvaluationCommentGenerator.ScoreKey, String> comments = commentGenerator.comments(new ArrayList<>(scores.values()));
         int studentIndex = 1;
 
         for (Student student : students) {
-            List<StudentSubmission> submissions = submissionRepository.findByStudent(student);
+            EvaluationCommentGenerator.ScoreKey score = scores.get(student.getId());
             
-            if (submissions.isEmpty()) {
+            if (score == null) {
                 Row row = sheet.createRow(rowNum++);
                 row.createCell(0).setCellValue(studentIndex++);
                 row.createCell(1).setCellValue(student.getDisplayName());
@@ -104,35 +107,16 @@ public class ExcelExportService {
                 continue;
             }
             
-            StudentSubmission submission = submissions.get(0);
-            List<SubmissionAnswer> answers = submissionAnswerRepository.findBySubmission(submission);
-            
-            int attendanceScore = 20;
-            int assignmentScore = 30;
-            int examScore = submission.getScore() != null ? (int) (submission.getScore() * 0.5) : 0;
-            int totalScore = attendanceScore + assignmentScore + examScore;
-            
-            String pf = determinePF(totalScore, attendanceScore);
-            String aiComment = generateAIComment(
-                student.getDisplayName(),
-                group.getGroupName(),
-                attendanceScore,
-                assignmentScore,
-                examScore,
-                totalScore,
-                pf
-            );
-
             Row row = sheet.createRow(rowNum++);
             row.createCell(0).setCellValue(studentIndex++);
             row.createCell(1).setCellValue(student.getDisplayName());
             row.createCell(2).setCellValue(student.getBirthDate() != null ? student.getBirthDate().toString() : "-");
-            row.createCell(3).setCellValue(attendanceScore);
-            row.createCell(4).setCellValue(assignmentScore);
-            row.createCell(5).setCellValue(examScore);
-            row.createCell(6).setCellValue(totalScore);
-            row.createCell(7).setCellValue(pf);
-            row.createCell(8).setCellValue(aiComment);
+            row.createCell(3).setCellValue(score.attendance());
+            row.createCell(4).setCellValue(score.assignment());
+            row.createCell(5).setCellValue(score.exam());
+            row.createCell(6).setCellValue(score.total());
+            row.createCell(7).setCellValue(score.pf());
+            row.createCell(8).setCellValue(comments.get(score));
 
             for (int i = 0; i < 9; i++) {
                 if (row.getCell(i) != null) {
@@ -173,14 +157,23 @@ public class ExcelExportService {
         }
 
         List<Student> students = studentRepository.findAll();
+        Map<String, EvaluationCommentGenerator.ScoreKey> scores = new HashMap<>();
+        for (Student student : students) {
+            List<StudentSubmission> submissions = submissionRepository.findByStudent(student);
+            if (!submissions.isEmpty()) {
+                String groupName = student.getGroup() != null ? student.getGroup().getGroupName() : "미배정";
+                scores.put(student.getId(), scoreOf(student, groupName, submissions.get(0)));
+            }
+        }
+        Map<EvaluationCommentGenerator.ScoreKey, String> comments = commentGenerator.comments(new ArrayList<>(scores.values()));
         int studentIndex = 1;
 
         for (Student student : students) {
-            List<StudentSubmission> submissions = submissionRepository.findByStudent(student);
+            EvaluationCommentGenerator.ScoreKey score = scores.get(student.getId());
             
             String groupName = student.getGroup() != null ? student.getGroup().getGroupName() : "미배정";
             
-            if (submissions.isEmpty()) {
+            if (score == null) {
                 Row row = sheet.createRow(rowNum++);
                 row.createCell(0).setCellValue(studentIndex++);
                 row.createCell(1).setCellValue(groupName);
@@ -195,35 +188,17 @@ public class ExcelExportService {
                 continue;
             }
             
-            StudentSubmission submission = submissions.get(0);
-            
-            int attendanceScore = 20;
-            int assignmentScore = 30;
-            int examScore = submission.getScore() != null ? (int) (submission.getScore() * 0.5) : 0;
-            int totalScore = attendanceScore + assignmentScore + examScore;
-            
-            String pf = determinePF(totalScore, attendanceScore);
-            String aiComment = generateAIComment(
-                student.getDisplayName(),
-                groupName,
-                attendanceScore,
-                assignmentScore,
-                examScore,
-                totalScore,
-                pf
-            );
-
             Row row = sheet.createRow(rowNum++);
             row.createCell(0).setCellValue(studentIndex++);
             row.createCell(1).setCellValue(groupName);
             row.createCell(2).setCellValue(student.getDisplayName());
             row.createCell(3).setCellValue(student.getBirthDate() != null ? student.getBirthDate().toString() : "-");
-            row.createCell(4).setCellValue(attendanceScore);
-            row.createCell(5).setCellValue(assignmentScore);
-            row.createCell(6).setCellValue(examScore);
-            row.createCell(7).setCellValue(totalScore);
-            row.createCell(8).setCellValue(pf);
-            row.createCell(9).setCellValue(aiComment);
+            row.createCell(4).setCellValue(score.attendance());
+            row.createCell(5).setCellValue(score.assignment());
+            row.createCell(6).setCellValue(score.exam());
+            row.createCell(7).setCellValue(score.total());
+            row.createCell(8).setCellValue(score.pf());
+            row.createCell(9).setCellValue(comments.get(score));
 
             for (int i = 0; i < 10; i++) {
                 if (row.getCell(i) != null) {
@@ -257,62 +232,22 @@ public class ExcelExportService {
         return "이수";
     }
 
-    private String generateAIComment(String studentName, String groupName, 
-                                     int attendance, int assignment, int exam, 
-                                     int total, String pf) {
-        if (openaiApiKey == null || openaiApiKey.isEmpty()) {
-            if (pf.equals("우수")) {
-                return String.format("%s 능력단위에서 우수한 성과를 보였으며 전반적으로 학습 태도가 모범적임.", groupName);
-            } else if (pf.equals("미이수")) {
-                return String.format("%s 능력단위 기초 개념 이해는 있으나 실습 수행도가 기준 미달. 추가 학습 필요.", groupName);
-            } else {
-                return String.format("%s 능력단위에서 안정적인 이해도를 보이며 수업 참여도가 양호함.", groupName);
-            }
-        }
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            String url = "https://api.openai.com/v1/chat/completions";
-            
-            String prompt = String.format(
-                "%s 학생 - %s 과정 평가\n출석: %d점, 과제: %d점, 시험: %d점, 총점: %d점, 판정: %s\n" +
-                "위 점수를 바탕으로 1-2문장의 간결하고 구체적인 평가 의견을 작성하세요. " +
-                "긍정적이고 건설적인 톤으로 작성하되, 점수가 낮으면 보완점을 언급하세요.",
-                studentName, groupName, attendance, assignment, exam, total, pf
-            );
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-4");
-            requestBody.put("messages", List.of(
-                Map.of("role", "system", "content", "당신은 교육 평가 전문가입니다."),
-                Map.of("role", "user", "content", prompt)
-            ));
-            requestBody.put("max_tokens", 150);
-            
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("Authorization", "Bearer " + openaiApiKey);
-            headers.set("Content-Type", "application/json");
-            
-            org.springframework.http.HttpEntity<Map<String, Object>> entity = 
-                new org.springframework.http.HttpEntity<>(requestBody, headers);
-            Map<String, Object> response = restTemplate.postForObject(url, entity, Map.class);
-            
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-            if (choices != null && !choices.isEmpty()) {
-                Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                return (String) message.get("content");
-            }
-        } catch (Exception e) {
-            log.error("AI comment generation failed", e);
-        }
+    private EvaluationCommentGenerator.ScoreKey scoreOf(Student student, String groupName, StudentSubmission submission) {
+        int attendanceScore = 20;
+        int assignmentScore = 30;
+        int examScore = submission.getScore() != null ? (int) (submission.getScore() * 0.5) : 0;
+        int totalScore = attendanceScore + assignmentScore + examScore;
         
-        if (pf.equals("우수")) {
-            return String.format("%s 능력단위에서 우수한 성과를 보였으며 전반적으로 학습 태도가 모범적임.", groupName);
-        } else if (pf.equals("미이수")) {
-            return String.format("%s 능력단위 기초 개념 이해는 있으나 실습 수행도가 기준 미달. 추가 학습 필요.", groupName);
-        } else {
-            return String.format("%s 능력단위에서 안정적인 이해도를 보이며 수업 참여도가 양호함.", groupName);
-        }
+        return new EvaluationCommentGenerator.ScoreKey(
+            student.getId(),
+            student.getDisplayName(),
+            groupName,
+            attendanceScore,
+            assignmentScore,
+            examScore,
+            totalScore,
+            determinePF(totalScore, attendanceScore)
+        );
     }
 
     private CellStyle createMetaStyle(Workbook workbook) {
@@ -0,0 +1,139 @@
+package com.dungeon.heotaehoon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final Object[] locks = createLocks();
+
+    public FileSystemBlobStore(@Value("${storage.blob.directory:data/blobs}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath();
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장소 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        log.info("Blob store at {}", this.directory);
+    }
+
+    @Override
+    public Blob put(InputStream content) throws IOException {
+        MessageDigest digest = OcrResultCache.newDigest();
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            long size;
+            try (InputStream inputStream = new DigestInputStream(content, digest);
+                 OutputStream outputStream = Files.newOutputStream(temp)) {
+                size = inputStream.transferTo(outputStream);
+            }
+
+            String hash = OcrResultCache.hex(digest);
+            Path target = path(hash);
+            synchronized (lockFor(hash)) {
+                if (Files.exists(target)) {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    log.debug("Blob {} already stored, skipping duplicate upload", hash);
+                    return new Blob(hash, size);
+                }
+
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    log.debug("Blob {} stored concurrently", hash);
+                }
+            }
+            return new Blob(hash, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource get(String hash) throws IOException {
+        Path path = path(hash);
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException("저장된 파일을 찾을 수 없습니다: " + hash);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(path(hash));
+    }
+
+    @Override
+    public List<String> listOlderThan(Instant cutoff) throws IOException {
+        List<String> hashes = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory, 3)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (HASH.matcher(name).matches() && Files.isRegularFile(file)
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    hashes.add(name);
+                }
+            }
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean deleteIfOlderThan(String hash, Instant cutoff) throws IOException {
+        Path path = path(hash);
+        synchronized (lockFor(hash)) {
+            if (!Files.exists(path) || !Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                return false;
+            }
+            return Files.deleteIfExists(path);
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[(hash.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + hash);
+        }
+        return directory.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
@@ -1,5 +1,6 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
 import com.dungeon.heotaehoon.dto.QuizAnswerRequest;
 import com.dungeon.heotaehoon.dto.QuizAnswerResponse;
 import com.dungeon.heotaehoon.entity.*;
@@ -22,6 +23,7 @@ public class GameService {
     private final StudentRepository studentRepository;
     private final RageDialogueRepository rageRepository;
     private final ExpLogRepository expLogRepository;
+    private final StudentProgressAccumulator progressAccumulator;
     private final Random random = new Random();
 
     @Transactional
@@ -44,34 +46,20 @@ public class GameService {
 
         attemptRepository.save(attempt);
 
-        if (isCorrect) {
-            student.setExp(student.getExp() + 10);
-            student.setTotalCorrect(student.getTotalCorrect() + 1);
-            checkLevelUp(student);
-        } else {
-            student.setTotalWrong(student.getTotalWrong() + 1);
-            student.setMentalGauge(Math.max(0, student.getMentalGauge() - 10));
-        }
-
-        studentRepository.save(student);
+        ProgressDelta delta = isCorrect
+                ? ProgressDelta.builder().exp(10).correct(1).build()
+                : ProgressDelta.builder().wrong(1).mental(-10).build();
+        StudentProgressAccumulator.Change change = progressAccumulator.apply(student.getId(), delta);
 
         return QuizAnswerResponse.builder()
                 .isCorrect(isCorrect)
                 .correctAnswer(quiz.getCorrectAnswer())
                 .expGained(isCorrect ? 10 : 0)
-                .studentLevel(student.getLevel())
-                .studentExp(student.getExp())
+                .studentLevel(change.after().getLevel())
+                .studentExp(change.after().getExp())
                 .build();
     }
 
-    private void checkLevelUp(Student student) {
-        int requiredExp = student.getLevel() * 100;
-        if (student.getExp() >= requiredExp) {
-            student.setLevel(student.getLevel() + 1);
-            student.setExp(student.getExp() - requiredExp);
-        }
-    }
-
     public Map<String, String> getRandomRageDialogue() {
         long count = rageRepository.count();
         if (count == 0) {
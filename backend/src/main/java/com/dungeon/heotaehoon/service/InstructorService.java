@@ -1,5 +1,6 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.InstructorProgress;
 import com.dungeon.heotaehoon.entity.Instructor;
 import com.dungeon.heotaehoon.repository.InstructorRepository;
 import com.dungeon.heotaehoon.repository.StudentRepository;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import com.dungeon.heotaehoon.entity.Student;
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +31,8 @@ public class InstructorService {
     private final RageDialogueRepository rageDialogueRepository;
     private final StudentSubmissionRepository submissionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final EntityManager entityManager;
 
     @Transactional
     public Instructor getInstructor() {
@@ -57,78 +61,66 @@ public class InstructorService {
         Instructor instructor = instructorRepository.findById(instructorId)
                 .orElseGet(() -> getInstructor());
         
-        int oldLevel = instructor.getLevel();
-        int oldExp = instructor.getExp();
-        int newExp = oldExp + expAmount;
-        
-        int expForNextLevel = oldLevel * 100;
-        boolean leveledUp = false;
-        int newLevel = oldLevel;
-        
-        while (newExp >= expForNextLevel) {
-            newExp -= expForNextLevel;
-            newLevel++;
-            expForNextLevel = newLevel * 100;
-            leveledUp = true;
-        }
-        
-        instructor.setExp(newExp);
-        instructor.setLevel(newLevel);
+        InstructorProgress progress = instructorRepository.incrementExp(instructor.getId(), expAmount)
+                .orElseThrow(() -> new RuntimeException("강사를 찾을 수 없습니다"));
         
+        boolean leveledUp = progress.getLevel() > progress.getPreviousLevel();
         if (leveledUp) {
-            instructor.setCurrentTitle(getTitleForLevel(newLevel));
-            instructor.setRageGauge(Math.max(0, instructor.getRageGauge() - 10));
+            instructorRepository.applyLevelUp(instructor.getId(), progress.getLevel(), getTitleForLevel(progress.getLevel()));
         }
         
-        instructorRepository.save(instructor);
+        entityManager.refresh(instructor);
         
         Map<String, Object> result = new HashMap<>();
         result.put("instructor", instructor);
         result.put("leveledUp", leveledUp);
-        result.put("oldLevel", oldLevel);
-        result.put("newLevel", newLevel);
+        result.put("oldLevel", progress.getPreviousLevel());
+        result.put("newLevel", progress.getLevel());
         result.put("expGained", expAmount);
         
         return result;
     }
 
-    @Transactional
     public Instructor addRage(int rageAmount) {
-        Instructor instructor = getInstructor();
-        
-        int newRage = Math.min(100, instructor.getRageGauge() + rageAmount);
-        instructor.setRageGauge(newRage);
-        
-        if (newRage >= 100 && !instructor.getIsEvolved()) {
-            instructor.setEvolutionStage("enraged");
-        }
-        
-        return instructorRepository.save(instructor);
+        return optimisticLockRetry.execute(() -> {
+            Instructor instructor = getInstructor();
+            
+            int newRage = Math.min(100, instructor.getRageGauge() + rageAmount);
+            instructor.setRageGauge(newRage);
+            
+            if (newRage >= 100 && !instructor.getIsEvolved()) {
+                instructor.setEvolutionStage("enraged");
+            }
+            
+            return instructorRepository.saveAndFlush(instructor);
+        });
     }
 
-    @Transactional
     public Instructor reduceRage(int rageAmount) {
-        Instructor instructor = getInstructor();
-        
-        int newRage = Math.max(0, instructor.getRageGauge() - rageAmount);
-        instructor.setRageGauge(newRage);
-        
-        if (newRage < 50 && "enraged".equals(instructor.getEvolutionStage())) {
-            instructor.setEvolutionStage("normal");
-        }
-        
-        return instructorRepository.save(instructor);
+        return optimisticLockRetry.execute(() -> {
+            Instructor instructor = getInstructor();
+            
+            int newRage = Math.max(0, instructor.getRageGauge() - rageAmount);
+            instructor.setRageGauge(newRage);
+            
+            if (newRage < 50 && "enraged".equals(instructor.getEvolutionStage())) {
+                instructor.setEvolutionStage("normal");
+            }
+            
+            return instructorRepository.saveAndFlush(instructor);
+        });
     }
 
-    @Transactional
     public Instructor evolveToFather() {
-        Instructor instructor = getInstructor();
-        
-        instructor.setIsEvolved(true);
-        instructor.setEvolutionStage("father");
-        instructor.setRageGauge(0);
-        
-        return instructorRepository.save(instructor);
+        return optimisticLockRetry.execute(() -> {
+            Instructor instructor = getInstructor();
+            
+            instructor.setIsEvolved(true);
+            instructor.setEvolutionStage("father");
+            instructor.setRageGauge(0);
+            
+            return instructorRepository.saveAndFlush(instructor);
+        });
     }
 
     public Map<String, Object> getInstructorStats() {
@@ -244,7 +236,6 @@ public class InstructorService {
         return result;
     }
 
-    @Transactional
     public Map<String, Object> tryAutoEvolve() {
         Map<String, Object> condition = checkEvolutionCondition();
         
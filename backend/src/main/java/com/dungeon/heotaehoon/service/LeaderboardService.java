@@ -0,0 +1,267 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.RankedStudent;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+import com.dungeon.heotaehoon.entity.Student;
+import com.dungeon.heotaehoon.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final String POINTS = "points";
+    public static final String LEVEL = "level";
+    public static final String CORRECT_RATE = "correctRate";
+
+    private final StudentRepository studentRepository;
+
+    private final Map<String, RankedStudent> students = new HashMap<>();
+    private final RankIndex pointsIndex = new RankIndex();
+    private final RankIndex levelIndex = new RankIndex();
+    private final RankIndex correctRateIndex = new RankIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pendingDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<RankedStudent> all;
+        try {
+            all = studentRepository.findAllRanked();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            students.clear();
+            pointsIndex.clear();
+            levelIndex.clear();
+            correctRateIndex.clear();
+            for (RankedStudent student : all) {
+                put(student);
+            }
+            replayed = pendingDuringRebuild.size();
+            pendingDuringRebuild.forEach(Runnable::run);
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Leaderboard rebuilt with {} students, replayed {} concurrent updates", all.size(), replayed);
+    }
+
+    public void update(Student student) {
+        update(() -> student);
+    }
+
+    public void update(Supplier<Student> student) {
+        afterCommit(() -> {
+            Student current = student.get();
+            apply(RankedStudent.builder()
+                    .id(current.getId())
+                    .displayName(current.getDisplayName())
+                    .level(current.getLevel())
+                    .exp(current.getExp())
+                    .points(current.getPoints())
+                    .totalCorrect(current.getTotalCorrect())
+                    .totalWrong(current.getTotalWrong())
+                    .build());
+        });
+    }
+
+    public void update(StudentProgress progress) {
+        afterCommit(() -> applyProgress(progress));
+    }
+
+    public void applyProgress(StudentProgress progress) {
+        mutate(() -> {
+            RankedStudent current = students.get(progress.getStudentId());
+            if (current == null) {
+                return;
+            }
+            evict(current.getId());
+            put(RankedStudent.builder()
+                    .id(current.getId())
+                    .displayName(current.getDisplayName())
+                    .level(progress.getLevel())
+                    .exp(progress.getExp())
+                    .points(progress.getPoints())
+                    .totalCorrect(progress.getTotalCorrect())
+                    .totalWrong(progress.getTotalWrong())
+                    .build());
+        });
+    }
+
+    public void remove(String studentId) {
+        afterCommit(() -> mutate(() -> evict(studentId)));
+    }
+
+    public List<RankedStudent> top(String sortBy, int limit) {
+        lock.readLock().lock();
+        try {
+            List<RankedStudent> ranked = new ArrayList<>();
+            for (String id : indexFor(sortBy).top(limit)) {
+                ranked.add(students.get(id));
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RankedStudent find(String studentId) {
+        lock.readLock().lock();
+        try {
+            return students.get(studentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int rankOf(String sortBy, String studentId) {
+        lock.readLock().lock();
+        try {
+            RankedStudent student = students.get(studentId);
+            if (student == null || (CORRECT_RATE.equals(sortBy) && !hasAnswered(student))) {
+                return 0;
+            }
+            return indexFor(sortBy).rankOf(studentId, scoreFor(sortBy, student)) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int rankedCount(String sortBy) {
+        lock.readLock().lock();
+        try {
+            return indexFor(sortBy).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int totalCount() {
+        lock.readLock().lock();
+        try {
+            return students.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void apply(RankedStudent snapshot) {
+        mutate(() -> {
+            evict(snapshot.getId());
+            put(snapshot);
+        });
+    }
+
+    private void mutate(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(RankedStudent student) {
+        students.put(student.getId(), student);
+        pointsIndex.insert(student.getId(), scoreFor(POINTS, student));
+        levelIndex.insert(student.getId(), scoreFor(LEVEL, student));
+        if (hasAnswered(student)) {
+            correctRateIndex.insert(student.getId(), scoreFor(CORRECT_RATE, student));
+        }
+    }
+
+    private void evict(String studentId) {
+        RankedStudent previous = students.remove(studentId);
+        if (previous == null) {
+            return;
+        }
+        pointsIndex.remove(studentId, scoreFor(POINTS, previous));
+        levelIndex.remove(studentId, scoreFor(LEVEL, previous));
+        if (hasAnswered(previous)) {
+            correctRateIndex.remove(studentId, scoreFor(CORRECT_RATE, previous));
+        }
+    }
+
+    private RankIndex indexFor(String sortBy) {
+        if (CORRECT_RATE.equals(sortBy)) {
+            return correctRateIndex;
+        }
+        if (LEVEL.equals(sortBy)) {
+            return levelIndex;
+        }
+        return pointsIndex;
+    }
+
+    private long scoreFor(String sortBy, RankedStudent student) {
+        if (CORRECT_RATE.equals(sortBy)) {
+            long total = value(student.getTotalCorrect()) + value(student.getTotalWrong());
+            return Double.doubleToLongBits((double) value(student.getTotalCorrect()) / total);
+        }
+        if (LEVEL.equals(sortBy)) {
+            return value(student.getLevel()) * 4294967296L + value(student.getExp());
+        }
+        return value(student.getPoints());
+    }
+
+    private boolean hasAnswered(RankedStudent student) {
+        return value(student.getTotalCorrect()) + value(student.getTotalWrong()) > 0;
+    }
+
+    private static long value(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dungeon.heotaehoon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LectureSectionBuffer {
+
+    public static final String PREAMBLE = "서문";
+
+    private static final Pattern HEADER = Pattern.compile("\\[(도입|핵심개념|예제|실습|심화|정리)\\]");
+    private static final int LONGEST_HEADER = 6;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private String current;
+
+    public List<Section> append(String delta) {
+        int scanFrom = Math.max(0, buffer.length() - LONGEST_HEADER + 1);
+        buffer.append(delta);
+
+        List<Section> completed = new ArrayList<>();
+        Matcher matcher = HEADER.matcher(buffer);
+        matcher.region(scanFrom, buffer.length());
+        int consumed = 0;
+        while (matcher.find()) {
+            String content = buffer.substring(consumed, matcher.start()).trim();
+            if (current != null || !content.isEmpty()) {
+                completed.add(new Section(current != null ? current : PREAMBLE, content));
+            }
+            current = matcher.group(1);
+            consumed = matcher.end();
+        }
+        buffer.delete(0, consumed);
+        return completed;
+    }
+
+    public Optional<Section> finish() {
+        String content = buffer.toString().trim();
+        buffer.setLength(0);
+        if (current == null && content.isEmpty()) {
+            return Optional.empty();
+        }
+        Section last = new Section(current != null ? current : PREAMBLE, content);
+        current = null;
+        return Optional.of(last);
+    }
+
+    public record Section(String name, String content) {
+    }
+}
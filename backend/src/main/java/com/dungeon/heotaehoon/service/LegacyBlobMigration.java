@@ -0,0 +1,72 @@
+package com.dungeon.heotaehoon.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyBlobMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        migrate("worksheets", "original_file", "original_file_hash", "original_file_size");
+        migrate("pdf_worksheets", "pdf_content", "pdf_hash", "pdf_size");
+    }
+
+    private void migrate(String table, String legacyColumn, String hashColumn, String sizeColumn) {
+        Integer legacy = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = ? AND column_name = ?",
+                Integer.class, table, legacyColumn);
+        if (legacy == null || legacy == 0) {
+            return;
+        }
+
+        List<String> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE " + legacyColumn + " IS NOT NULL", String.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        int migrated = 0;
+        for (String id : ids) {
+            try {
+                BlobStore.Blob blob = jdbcTemplate.query(
+                        "SELECT " + legacyColumn + " FROM " + table + " WHERE id = ?",
+                        rs -> rs.next() ? store(rs.getBinaryStream(1)) : null, id);
+                if (blob == null) {
+                    continue;
+                }
+                jdbcTemplate.update("UPDATE " + table + " SET " + hashColumn + " = ?, " + sizeColumn + " = ?, "
+                        + legacyColumn + " = NULL WHERE id = ?", blob.hash(), blob.size(), id);
+                migrated++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to move {}.{} of row {} to the blob store: {}", table, legacyColumn, id, e.getMessage());
+            }
+        }
+        log.info("Moved {}/{} {}.{} values to the blob store", migrated, ids.size(), table, legacyColumn);
+    }
+
+    private BlobStore.Blob store(InputStream content) {
+        if (content == null) {
+            return null;
+        }
+        try (InputStream inputStream = content) {
+            return blobStore.put(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
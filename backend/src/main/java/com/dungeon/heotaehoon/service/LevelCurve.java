@@ -0,0 +1,34 @@
+package com.dungeon.heotaehoon.service;
+
+public final class LevelCurve {
+
+    private LevelCurve() {
+    }
+
+    public static long totalExp(int level, int exp) {
+        return 50L * level * (level - 1) + exp;
+    }
+
+    public static int levelForTotal(long totalExp) {
+        if (totalExp <= 0) {
+            return 1;
+        }
+        int level = (int) Math.floor((1 + Math.sqrt(1 + totalExp / 12.5)) / 2);
+        while (totalExp(level + 1, 0) <= totalExp) {
+            level++;
+        }
+        while (level > 1 && totalExp(level, 0) > totalExp) {
+            level--;
+        }
+        return level;
+    }
+
+    public static int levelAfter(int level, int exp, int gained) {
+        return Math.max(level, levelForTotal(totalExp(level, exp) + gained));
+    }
+
+    public static int expAfter(int level, int exp, int gained) {
+        int newLevel = levelAfter(level, exp, gained);
+        return (int) (totalExp(level, exp) + gained - totalExp(newLevel, 0));
+    }
+}
@@ -33,8 +33,60 @@ public class MentalBreakerService {
         }
     }
     
+    @Transactional
+    public Map<String, Object> processMentalBreaks(String studentId, int correctCount, int wrongCount, boolean correctFirst) {
+        Student student = studentRepository.findById(studentId)
+            .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
+        
+        MentalState mentalState = mentalStateRepository.findByStudent(student)
+            .orElseGet(() -> buildInitialMentalState(student));
+        
+        int totalRecovery = 0;
+        int totalDamage = 0;
+        int breakdowns = 0;
+        WrongAnswerOutcome lastWrong = null;
+        
+        for (int i = 0; i < correctCount + wrongCount; i++) {
+            boolean isCorrect = correctFirst ? i < correctCount : i >= wrongCount;
+            if (isCorrect) {
+                totalRecovery += applyCorrectAnswer(mentalState);
+            } else {
+                lastWrong = applyWrongAnswer(mentalState);
+                totalDamage += lastWrong.damage();
+                if (lastWrong.triggerBreaker()) {
+                    breakdowns++;
+                }
+            }
+        }
+        
+        mentalStateRepository.save(mentalState);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("mentalGauge", mentalState.getMentalGauge());
+        response.put("mood", mentalState.getCurrentMood());
+        response.put("isInCrisis", mentalState.getIsInCrisis());
+        response.put("recovered", totalRecovery);
+        response.put("damage", totalDamage);
+        response.put("consecutiveWrongs", mentalState.getConsecutiveWrongs());
+        response.put("triggerRecoveryMission", breakdowns > 0);
+        
+        if (lastWrong != null) {
+            String breakerMessage = generateAIDialogue(lastWrong.dialogueType(), lastWrong.mentalGauge(), lastWrong.consecutiveWrongs());
+            saveRageDialogue(student, breakerMessage, lastWrong.dialogueType(), lastWrong.intensityLevel());
+            response.put("message", breakerMessage);
+        } else {
+            response.put("message", "정답! 멘탈 회복 +" + totalRecovery);
+        }
+        
+        return response;
+    }
+    
     private MentalState createInitialMentalState(Student student) {
-        MentalState mentalState = MentalState.builder()
+        return mentalStateRepository.save(buildInitialMentalState(student));
+    }
+    
+    private MentalState buildInitialMentalState(Student student) {
+        return MentalState.builder()
             .student(student)
             .mentalGauge(100)
             .consecutiveWrongs(0)
@@ -44,10 +96,43 @@ public class MentalBreakerService {
             .totalBreakdowns(0)
             .totalRecoveries(0)
             .build();
-        return mentalStateRepository.save(mentalState);
     }
     
     private Map<String, Object> handleCorrectAnswer(MentalState mentalState) {
+        int recovery = applyCorrectAnswer(mentalState);
+        
+        mentalStateRepository.save(mentalState);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("mentalGauge", mentalState.getMentalGauge());
+        response.put("mood", mentalState.getCurrentMood());
+        response.put("isInCrisis", mentalState.getIsInCrisis());
+        response.put("message", "정답! 멘탈 회복 +" + recovery);
+        return response;
+    }
+    
+    private Map<String, Object> handleWrongAnswer(MentalState mentalState, Student student) {
+        WrongAnswerOutcome outcome = applyWrongAnswer(mentalState);
+        
+        mentalStateRepository.save(mentalState);
+        
+        String breakerMessage = generateAIDialogue(outcome.dialogueType(), outcome.mentalGauge(), outcome.consecutiveWrongs());
+        
+        saveRageDialogue(student, breakerMessage, outcome.dialogueType(), outcome.intensityLevel());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("mentalGauge", mentalState.getMentalGauge());
+        response.put("mood", mentalState.getCurrentMood());
+        response.put("isInCrisis", mentalState.getIsInCrisis());
+        response.put("damage", outcome.damage());
+        response.put("message", breakerMessage);
+        response.put("triggerRecoveryMission", outcome.triggerBreaker());
+        response.put("consecutiveWrongs", mentalState.getConsecutiveWrongs());
+        
+        return response;
+    }
+    
+    private int applyCorrectAnswer(MentalState mentalState) {
         mentalState.setConsecutiveCorrects(mentalState.getConsecutiveCorrects() + 1);
         mentalState.setConsecutiveWrongs(0);
         
@@ -61,17 +146,10 @@ public class MentalBreakerService {
             mentalState.setCurrentMood("보통");
         }
         
-        mentalStateRepository.save(mentalState);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("mentalGauge", mentalState.getMentalGauge());
-        response.put("mood", mentalState.getCurrentMood());
-        response.put("isInCrisis", mentalState.getIsInCrisis());
-        response.put("message", "정답! 멘탈 회복 +" + recovery);
-        return response;
+        return recovery;
     }
     
-    private Map<String, Object> handleWrongAnswer(MentalState mentalState, Student student) {
+    private WrongAnswerOutcome applyWrongAnswer(MentalState mentalState) {
         mentalState.setConsecutiveWrongs(mentalState.getConsecutiveWrongs() + 1);
         mentalState.setConsecutiveCorrects(0);
         
@@ -104,22 +182,8 @@ public class MentalBreakerService {
             intensityLevel = 1;
         }
         
-        mentalStateRepository.save(mentalState);
-        
-        String breakerMessage = generateAIDialogue(dialogueType, mentalState.getMentalGauge(), mentalState.getConsecutiveWrongs());
-        
-        saveRageDialogue(student, breakerMessage, dialogueType, intensityLevel);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("mentalGauge", mentalState.getMentalGauge());
-        response.put("mood", mentalState.getCurrentMood());
-        response.put("isInCrisis", mentalState.getIsInCrisis());
-        response.put("damage", damage);
-        response.put("message", breakerMessage);
-        response.put("triggerRecoveryMission", triggerBreaker);
-        response.put("consecutiveWrongs", mentalState.getConsecutiveWrongs());
-        
-        return response;
+        return new WrongAnswerOutcome(damage, dialogueType, intensityLevel, triggerBreaker,
+            mentalState.getMentalGauge(), mentalState.getConsecutiveWrongs());
     }
     
     private void saveRageDialogue(Student student, String message, String dialogueType, int intensityLevel) {
@@ -265,4 +329,8 @@ public class MentalBreakerService {
         
         return response;
     }
+    
+    private record WrongAnswerOutcome(int damage, String dialogueType, int intensityLevel, boolean triggerBreaker,
+                                      int mentalGauge, int consecutiveWrongs) {
+    }
 }
@@ -1,5 +1,6 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
 import com.dungeon.heotaehoon.entity.MultiverseInstructor;
 import com.dungeon.heotaehoon.entity.SoulFragment;
 import com.dungeon.heotaehoon.entity.Student;
@@ -22,6 +23,7 @@ public class MultiverseService {
     private final MultiverseInstructorRepository multiverseInstructorRepository;
     private final SoulFragmentRepository soulFragmentRepository;
     private final StudentRepository studentRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     @Transactional
     public void initializeMultiverses() {
@@ -191,9 +193,7 @@ public class MultiverseService {
             throw new RuntimeException("영혼 조각이 부족합니다 (현재: " + totalFragments + "/3)");
         }
 
-        student.setExp(student.getExp() + 1000);
-        student.setPoints(student.getPoints() + 500);
-        studentRepository.save(student);
+        progressAccumulator.apply(studentId, ProgressDelta.builder().exp(1000).points(500).build());
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -0,0 +1,198 @@
+package com.dungeon.heotaehoon.service;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+public class OcrJob {
+
+    public static final String QUEUED = "queued";
+    public static final String RUNNING = "running";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+
+    private final String id;
+    private final String kind;
+    private final String fileName;
+    private final Path upload;
+    private final Executor sender;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicInteger pagesDone = new AtomicInteger();
+    private final AtomicInteger pagesTotal = new AtomicInteger();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile String status = QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile List<OcrService.QuestionData> questions;
+    private volatile List<OcrService.PageResult> pages;
+    private volatile String error;
+
+    public OcrJob(String id, String kind, String fileName, Path upload, Executor sender) {
+        this.id = id;
+        this.kind = kind;
+        this.fileName = fileName;
+        this.upload = upload;
+        this.sender = sender;
+    }
+
+    public boolean isFinished() {
+        return COMPLETED.equals(status) || FAILED.equals(status);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("jobId", id);
+        snapshot.put("kind", kind);
+        snapshot.put("fileName", fileName);
+        snapshot.put("status", status);
+        snapshot.put("pagesDone", pagesDone.get());
+        snapshot.put("pagesTotal", pagesTotal.get());
+        snapshot.put("createdAt", createdAt);
+        snapshot.put("startedAt", startedAt);
+        snapshot.put("finishedAt", finishedAt);
+        if (error != null) {
+            snapshot.put("error", error);
+        }
+        return snapshot;
+    }
+
+    public Map<String, Object> result() {
+        Map<String, Object> result = snapshot();
+        if (COMPLETED.equals(status)) {
+            result.put("questions", questions);
+            result.put("count", questions.size());
+            if (pages != null && !pages.isEmpty()) {
+                result.put("pages", pages);
+            }
+        }
+        return result;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = RUNNING;
+        broadcast("progress", snapshot());
+    }
+
+    void progress(int done, int total) {
+        pagesTotal.set(total);
+        pagesDone.accumulateAndGet(done, Math::max);
+        broadcast("progress", snapshot());
+    }
+
+    synchronized void complete(List<OcrService.QuestionData> questions, List<OcrService.PageResult> pages) {
+        this.questions = questions;
+        this.pages = pages;
+        this.finishedAt = LocalDateTime.now();
+        this.status = COMPLETED;
+        finish(COMPLETED, result());
+    }
+
+    synchronized void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = FAILED;
+        finish(FAILED, snapshot());
+    }
+
+    synchronized void subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        if (isFinished()) {
+            subscriber.finish(new JobEvent(status, COMPLETED.equals(status) ? result() : snapshot()));
+            return;
+        }
+        subscribers.add(subscriber);
+        subscriber.offer(new JobEvent("progress", snapshot()));
+    }
+
+    private void broadcast(String event, Map<String, Object> payload) {
+        JobEvent jobEvent = new JobEvent(event, payload);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(jobEvent);
+        }
+    }
+
+    private void finish(String event, Map<String, Object> payload) {
+        JobEvent jobEvent = new JobEvent(event, payload);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.finish(jobEvent);
+        }
+        subscribers.clear();
+    }
+
+    private record JobEvent(String name, Map<String, Object> payload) {
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicReference<JobEvent> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean finishing;
+        private volatile boolean disconnected;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(JobEvent event) {
+            latest.set(event);
+            schedule();
+        }
+
+        private void finish(JobEvent event) {
+            latest.set(event);
+            finishing = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (disconnected || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                JobEvent event;
+                while (!disconnected && (event = latest.getAndSet(null)) != null) {
+                    emitter.send(SseEmitter.event().name(event.name()).data(event.payload()));
+                }
+            } catch (IOException | IllegalStateException e) {
+                disconnected = true;
+                subscribers.remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (latest.get() != null) {
+                schedule();
+            } else if (finishing) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.dungeon.heotaehoon.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class OcrJobService {
+
+    public static final String KIND_PDF = "pdf";
+    public static final String KIND_DOCX = "docx";
+
+    private final OcrService ocrService;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService sender;
+    private final long retentionMinutes;
+    private final long streamTimeoutMs;
+    private final Map<String, OcrJob> jobs = new ConcurrentHashMap<>();
+
+    public OcrJobService(OcrService ocrService,
+                         @Value("${ocr.jobs.workers:2}") int workers,
+                         @Value("${ocr.jobs.queue-capacity:20}") int queueCapacity,
+                         @Value("${ocr.jobs.retention-minutes:60}") long retentionMinutes,
+                         @Value("${ocr.jobs.stream-timeout-ms:600000}") long streamTimeoutMs,
+                         @Value("${ocr.jobs.stream-sender-threads:2}") int senderThreads) {
+        this.ocrService = ocrService;
+        this.retentionMinutes = retentionMinutes;
+        this.streamTimeoutMs = streamTimeoutMs;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "ocr-job-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        AtomicInteger senderCounter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-sse-" + senderCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public OcrJob submit(MultipartFile file) throws IOException {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new RejectedExecutionException("OCR 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요");
+        }
+
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
+        String kind = fileName.toLowerCase().endsWith(".docx") ? KIND_DOCX : KIND_PDF;
+
+        Path upload = Files.createTempFile("ocr-job-", "." + kind);
+        file.transferTo(upload);
+
+        OcrJob job = new OcrJob(UUID.randomUUID().toString(), kind, fileName, upload, sender);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteUpload(upload);
+            throw new RejectedExecutionException("OCR 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요", e);
+        }
+
+        log.info("Queued OCR job {} for {} ({})", job.getId(), fileName, kind);
+        return job;
+    }
+
+    public Optional<OcrJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public Optional<SseEmitter> stream(String jobId) {
+        return find(jobId).map(job -> {
+            SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+            job.subscribe(emitter);
+            return emitter;
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("workers", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("retained", jobs.size());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${ocr.jobs.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> pending = executor.shutdownNow();
+        sender.shutdownNow();
+        log.info("OCR job executor stopped with {} queued jobs", pending.size());
+        jobs.values().stream()
+                .filter(job -> !job.isFinished())
+                .forEach(job -> deleteUpload(job.getUpload()));
+    }
+
+    private void run(OcrJob job) {
+        job.start();
+        try {
+            FileSystemResource upload = new FileSystemResource(job.getUpload());
+            if (KIND_DOCX.equals(job.getKind())) {
+                job.complete(ocrService.extractQuestionsFromDocx(upload, job::progress), List.of());
+            } else {
+                OcrService.PdfExtraction extraction = ocrService.extractFromPdf(upload, job::progress);
+                job.complete(extraction.questions(), extraction.pages());
+            }
+            log.info("OCR job {} completed", job.getId());
+        } catch (Exception e) {
+            log.error("OCR job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteUpload(job.getUpload());
+        }
+    }
+
+    private void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Failed to delete OCR upload {}: {}", upload, e.getMessage());
+        }
+    }
+}
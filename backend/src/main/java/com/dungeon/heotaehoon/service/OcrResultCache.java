@@ -0,0 +1,304 @@
+package com.dungeon.heotaehoon.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class OcrResultCache {
+
+    private static final long ENTRY_OVERHEAD = 256;
+    private static final int FORMAT_VERSION = 2;
+    private static final String PAGE_PREFIX = "v" + FORMAT_VERSION + "-page-";
+    private static final String DOCUMENT_PREFIX = "v" + FORMAT_VERSION + "-doc-p" + OcrService.PARSER_VERSION + "-";
+
+    private final long maxBytes;
+    private final long maxDiskBytes;
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private final LinkedHashMap<String, Long> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskUsedBytes;
+
+    private final LongAdder documentHits = new LongAdder();
+    private final LongAdder documentMisses = new LongAdder();
+    private final LongAdder pageHits = new LongAdder();
+    private final LongAdder pageMisses = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+
+    public OcrResultCache(@Value("${ocr.cache.max-bytes:67108864}") long maxBytes,
+                          @Value("${ocr.cache.max-disk-bytes:536870912}") long maxDiskBytes,
+                          @Value("${ocr.cache.directory:}") String directory) {
+        this.maxBytes = maxBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        this.directory = directory == null || directory.isBlank() ? null : Paths.get(directory);
+        if (this.directory != null) {
+            try {
+                Files.createDirectories(this.directory);
+                loadDiskEntries();
+            } catch (IOException e) {
+                throw new IllegalStateException("OCR 캐시 디렉터리를 만들 수 없습니다: " + directory, e);
+            }
+        }
+    }
+
+    public Optional<CachedDocument> document(String kind, String contentHash) {
+        CachedDocument cached = lookup(DOCUMENT_PREFIX + kind + "-" + contentHash, CachedDocument.class);
+        if (cached == null) {
+            documentMisses.increment();
+            return Optional.empty();
+        }
+        documentHits.increment();
+        return Optional.of(cached.copy());
+    }
+
+    public void putDocument(String kind, String contentHash, CachedDocument document) {
+        long size = ENTRY_OVERHEAD + sizeOf(document.text());
+        for (OcrService.QuestionData question : document.questions()) {
+            size += ENTRY_OVERHEAD + sizeOf(question.getQuestionText()) + sizeOf(question.getOptionA())
+                    + sizeOf(question.getOptionB()) + sizeOf(question.getOptionC()) + sizeOf(question.getOptionD());
+        }
+        size += (long) document.pages().size() * 64;
+        store(DOCUMENT_PREFIX + kind + "-" + contentHash, document.copy(), size);
+    }
+
+    public Optional<String> page(String pageHash) {
+        String cached = lookup(PAGE_PREFIX + pageHash, String.class);
+        if (cached == null) {
+            pageMisses.increment();
+            return Optional.empty();
+        }
+        pageHits.increment();
+        return Optional.of(cached);
+    }
+
+    public void putPage(String pageHash, String text) {
+        store(PAGE_PREFIX + pageHash, text, ENTRY_OVERHEAD + sizeOf(text));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+            stats.put("usedBytes", usedBytes);
+        }
+        synchronized (diskEntries) {
+            stats.put("diskEntries", diskEntries.size());
+            stats.put("diskUsedBytes", diskUsedBytes);
+        }
+        stats.put("maxBytes", maxBytes);
+        stats.put("maxDiskBytes", maxDiskBytes);
+        stats.put("documentHits", documentHits.sum());
+        stats.put("documentMisses", documentMisses.sum());
+        stats.put("pageHits", pageHits.sum());
+        stats.put("pageMisses", pageMisses.sum());
+        stats.put("diskHits", diskHits.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("diskEvictions", diskEvictions.sum());
+        stats.put("persistent", directory != null);
+        return stats;
+    }
+
+    public static String sha256(InputStreamSource source) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream inputStream = source.getInputStream()) {
+            update(digest, inputStream);
+        }
+        return hex(digest);
+    }
+
+    public static String sha256(byte[] bytes) {
+        MessageDigest digest = newDigest();
+        digest.update(bytes);
+        return hex(digest);
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void update(MessageDigest digest, InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private <T> T lookup(String key, Class<T> type) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return type.cast(entry.value());
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+
+        synchronized (diskEntries) {
+            if (diskEntries.get(key) == null) {
+                return null;
+            }
+        }
+        Path file = directory.resolve(key + ".json");
+        try {
+            T value = objectMapper.readValue(file.toFile(), type);
+            diskHits.increment();
+            long size = Files.size(file) * 2;
+            remember(key, value, size);
+            return value;
+        } catch (IOException e) {
+            log.warn("Failed to read OCR cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, Object value, long size) {
+        remember(key, value, size);
+        if (directory == null) {
+            return;
+        }
+        try {
+            Path file = directory.resolve(key + ".json");
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            objectMapper.writeValue(temp.toFile(), value);
+            long fileSize = Files.size(temp);
+            if (fileSize > maxDiskBytes) {
+                Files.deleteIfExists(temp);
+                return;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            rememberOnDisk(key, fileSize);
+        } catch (IOException e) {
+            log.warn("Failed to persist OCR cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void loadDiskEntries() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.filter(Files::isRegularFile).forEach(files::add);
+        }
+        files.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            boolean current = name.endsWith(".json")
+                    && (name.startsWith(PAGE_PREFIX) || name.startsWith(DOCUMENT_PREFIX));
+            if (!current) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            rememberOnDisk(name.substring(0, name.length() - ".json".length()), Files.size(file));
+        }
+    }
+
+    private void rememberOnDisk(String key, long size) {
+        List<String> victims = new ArrayList<>();
+        synchronized (diskEntries) {
+            Long previous = diskEntries.put(key, size);
+            if (previous != null) {
+                diskUsedBytes -= previous;
+            }
+            diskUsedBytes += size;
+
+            Iterator<Map.Entry<String, Long>> eldest = diskEntries.entrySet().iterator();
+            while (diskUsedBytes > maxDiskBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> victim = eldest.next();
+                if (victim.getKey().equals(key)) {
+                    continue;
+                }
+                diskUsedBytes -= victim.getValue();
+                eldest.remove();
+                victims.add(victim.getKey());
+            }
+        }
+        for (String victim : victims) {
+            try {
+                Files.deleteIfExists(directory.resolve(victim + ".json"));
+                diskEvictions.increment();
+            } catch (IOException e) {
+                log.warn("Failed to delete OCR cache entry {}: {}", victim, e.getMessage());
+            }
+        }
+    }
+
+    private void remember(String key, Object value, long size) {
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(value, size));
+            if (previous != null) {
+                usedBytes -= previous.size();
+            }
+            usedBytes += size;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> victim = eldest.next();
+                if (victim.getKey().equals(key)) {
+                    continue;
+                }
+                usedBytes -= victim.getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static long sizeOf(String value) {
+        return value != null ? (long) value.length() * 2 : 0;
+    }
+
+    public record CachedDocument(String text, List<OcrService.QuestionData> questions,
+                                 List<OcrService.PageResult> pages) {
+
+        private CachedDocument copy() {
+            List<OcrService.QuestionData> copies = new ArrayList<>(questions.size());
+            for (OcrService.QuestionData question : questions) {
+                copies.add(question.copy());
+            }
+            return new CachedDocument(text, copies, List.copyOf(pages));
+        }
+    }
+
+    private record Entry(Object value, long size) {
+    }
+}
@@ -1,186 +1,665 @@
 package com.dungeon.heotaehoon.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.DefaultResourceCache;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFPicture;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OcrService {
 
+    private static final int RENDER_DPI = 300;
+    private static final int MIN_RENDER_DPI = 150;
+    private static final int MIN_TEXT_CHARS = 20;
+    private static final int MIN_TEXT_CHARS_WITH_IMAGES = 200;
+    private static final int LARGE_IMAGE_PIXELS = 500 * 500;
+
+    public static final String SOURCE_TEXT = "text";
+    public static final String SOURCE_OCR = "ocr";
+    public static final String SOURCE_CACHE = "cache";
+    public static final String SOURCE_FAILED = "failed";
+
+    public static final int PARSER_VERSION = 1;
+
+    private static final String KIND_PDF = "pdf";
+    private static final String KIND_DOCX = "docx";
+
+    private final ExecutorService ocrExecutor;
+    private final TesseractPool tesseractPool;
+    private final OcrResultCache ocrResultCache;
+    private final int heapBudgetKb;
+    private final Semaphore heapBudget;
+    private final long pdfBufferBytes;
+    private final long maxPagePixels;
+    private final long maxDocxPartBytes;
+    private final ImageType renderImageType;
+
+    public OcrService(TesseractPool tesseractPool, OcrResultCache ocrResultCache,
+                      @Value("${ocr.workers:0}") int workers,
+                      @Value("${ocr.memory.max-heap-bytes:134217728}") long maxHeapBytes,
+                      @Value("${ocr.memory.pdf-buffer-bytes:16777216}") long pdfBufferBytes,
+                      @Value("${ocr.render.max-page-pixels:8700000}") long maxPagePixels,
+                      @Value("${ocr.render.binary:false}") boolean binary,
+                      @Value("${ocr.docx.max-part-bytes:33554432}") long maxDocxPartBytes) {
+        this.tesseractPool = tesseractPool;
+        this.ocrResultCache = ocrResultCache;
+        this.heapBudgetKb = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxHeapBytes / 1024));
+        this.heapBudget = new Semaphore(heapBudgetKb, true);
+        this.pdfBufferBytes = pdfBufferBytes;
+        this.maxPagePixels = maxPagePixels;
+        this.maxDocxPartBytes = maxDocxPartBytes;
+        this.renderImageType = binary ? ImageType.BINARY : ImageType.GRAY;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.ocrExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ocrExecutor.shutdownNow();
+    }
+
+    public Map<String, Object> engineStats() {
+        Map<String, Object> stats = new HashMap<>(tesseractPool.stats());
+        stats.put("heapBudgetKb", heapBudgetKb);
+        stats.put("heapAvailableKb", heapBudget.availablePermits());
+        return stats;
+    }
+
+    public Map<String, Object> cacheStats() {
+        return ocrResultCache.stats();
+    }
+
     public List<QuestionData> extractQuestionsFromPdf(MultipartFile file) throws IOException, TesseractException {
-        List<QuestionData> questions = new ArrayList<>();
-        
+        return extractFromPdf(file).questions();
+    }
+
+    public PdfExtraction extractFromPdf(MultipartFile file) {
         log.info("Starting OCR extraction for file: {}", file.getOriginalFilename());
-        
-        try (InputStream inputStream = file.getInputStream();
-            PDDocument document = PDDocument.load(inputStream)) {
-            
-            PDFRenderer pdfRenderer = new PDFRenderer(document);
-            Tesseract tesseract = new Tesseract();
-            
-            tesseract.setDatapath("/usr/share/tessdata");
-            tesseract.setLanguage("kor+eng");
-            
-            StringBuilder fullText = new StringBuilder();
+        return extractFromPdf(file, PageProgress.NONE);
+    }
+
+    public PdfExtraction extractFromPdf(InputStreamSource source, PageProgress progress) {
+        try {
+            String contentHash = OcrResultCache.sha256(source);
+            Optional<OcrResultCache.CachedDocument> cached = ocrResultCache.document(KIND_PDF, contentHash);
+            if (cached.isPresent()) {
+                List<PageResult> pages = cached.get().pages().stream()
+                    .map(page -> new PageResult(page.page(), SOURCE_CACHE, page.characters()))
+                    .toList();
+                progress.update(pages.size(), pages.size());
+                log.info("OCR cache hit for PDF {}", contentHash);
+                return new PdfExtraction(cached.get().questions(), pages);
+            }
             
-            for (int page = 0; page < document.getNumberOfPages(); page++) {
-                try {
-                    BufferedImage image = pdfRenderer.renderImageWithDPI(page, 300);
-                    String pageText = tesseract.doOCR(image);
-                    fullText.append(pageText).append("\n");
-                } catch (Exception e) {
-                    log.error("Failed to process page {}", page + 1, e);
+            try (PDDocument document = loadPdf(source)) {
+                
+                List<PageResult> pages = new ArrayList<>();
+                String extractedText = readPages(document, pages, progress);
+                
+                Map<String, Long> sources = new HashMap<>();
+                pages.forEach(page -> sources.merge(page.source(), 1L, Long::sum));
+                log.info("Extracted {} pages {}", pages.size(), sources);
+                
+                List<QuestionData> questions = parseQuestions(extractedText);
+                if (!sources.containsKey(SOURCE_FAILED)) {
+                    ocrResultCache.putDocument(KIND_PDF, contentHash,
+                        new OcrResultCache.CachedDocument(extractedText, questions, pages));
                 }
+                return new PdfExtraction(questions, pages);
             }
             
-            String extractedText = fullText.toString();
-            questions = parseQuestions(extractedText);
-            
         } catch (Exception e) {
             log.error("OCR extraction failed", e);
             throw new RuntimeException("OCR 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
-        
-        return questions;
     }
 
     public List<QuestionData> extractQuestionsFromDocx(MultipartFile file) throws IOException {
+        log.info("Starting DOCX extraction for file: {}", file.getOriginalFilename());
+        
+        return extractQuestionsFromDocx(file, PageProgress.NONE);
+    }
+
+    public List<QuestionData> extractQuestionsFromDocx(InputStreamSource source, PageProgress progress) {
         List<QuestionData> questions = new ArrayList<>();
+        String contentHash;
         
-        log.info("Starting DOCX extraction for file: {}", file.getOriginalFilename());
+        try {
+            contentHash = OcrResultCache.sha256(source);
+        } catch (IOException e) {
+            throw new RuntimeException("DOCX 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        Optional<OcrResultCache.CachedDocument> cached = ocrResultCache.document(KIND_DOCX, contentHash);
+        if (cached.isPresent()) {
+            log.info("OCR cache hit for DOCX {}", contentHash);
+            progress.update(1, 1);
+            return cached.get().questions();
+        }
         
-        try (InputStream inputStream = file.getInputStream();
-            XWPFDocument document = new XWPFDocument(inputStream)) {
+        Path temp = null;
+        try {
+            File file;
+            if (source instanceof FileSystemResource resource) {
+                file = resource.getFile();
+            } else {
+                temp = Files.createTempFile("ocr-docx-", ".docx");
+                try (InputStream inputStream = source.getInputStream()) {
+                    Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                file = temp.toFile();
+            }
             
-            StringBuilder fullText = new StringBuilder();
-            Tesseract tesseract = new Tesseract();
-            tesseract.setDatapath("/usr/share/tessdata");
-            tesseract.setLanguage("kor+eng");
+            try (ZipFile zip = new ZipFile(file)) {
+                List<DocxStreamReader.Segment> segments = DocxStreamReader.read(zip, maxDocxPartBytes);
+                Map<String, String> imageTexts = ocrDocxImages(zip, segments, progress);
             
-            for (XWPFParagraph paragraph : document.getParagraphs()) {
-                String text = paragraph.getText();
-                if (text != null && !text.trim().isEmpty()) {
-                    fullText.append(text).append("\n");
-                }
-                
-                for (XWPFRun run : paragraph.getRuns()) {
-                    List<XWPFPicture> pictures = run.getEmbeddedPictures();
-                    for (XWPFPicture picture : pictures) {
-                        try {
-                            byte[] imageData = picture.getPictureData().getData();
-                            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
-                            
-                            if (image != null) {
-                                String imageText = tesseract.doOCR(image);
-                                if (imageText != null && !imageText.trim().isEmpty()) {
-                                    fullText.append("\n").append(imageText).append("\n");
-                                    log.info("Extracted text from image: {} chars", imageText.length());
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to process embedded image", e);
+                StringBuilder fullText = new StringBuilder();
+                for (DocxStreamReader.Segment segment : segments) {
+                    if (segment.text() != null) {
+                        if (!segment.text().trim().isEmpty()) {
+                            fullText.append(segment.text()).append("\n");
+                        }
+                    } else {
+                        String imageText = imageTexts.get(segment.imagePart());
+                        if (imageText != null && !imageText.trim().isEmpty()) {
+                            fullText.append("\n").append(imageText).append("\n");
                         }
                     }
                 }
-            }
             
-            String extractedText = fullText.toString();
-            log.info("Total extracted text length: {}", extractedText.length());
+                String extractedText = fullText.toString();
+                log.info("Total extracted text length: {}", extractedText.length());
             
-            questions = parseQuestions(extractedText);
+                questions = parseQuestions(extractedText);
+                ocrResultCache.putDocument(KIND_DOCX, contentHash,
+                    new OcrResultCache.CachedDocument(extractedText, questions, List.of()));
+            }
             
         } catch (Exception e) {
             log.error("DOCX extraction failed", e);
             throw new RuntimeException("DOCX 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("Failed to delete DOCX temp file {}: {}", temp, e.getMessage());
+                }
+            }
         }
         
         return questions;
     }
 
-    private List<QuestionData> parseQuestions(String text) {
-        List<QuestionData> questions = new ArrayList<>();
-        
-        Pattern questionPattern = Pattern.compile(
-            "(\\d+)\\.\\s*(.+?)(?=(?:\\d+\\.|$))",
-            Pattern.DOTALL
-        );
+    private Map<String, String> ocrDocxImages(ZipFile zip, List<DocxStreamReader.Segment> segments, PageProgress progress)
+            throws IOException, InterruptedException {
+        Set<String> parts = new LinkedHashSet<>();
+        for (DocxStreamReader.Segment segment : segments) {
+            if (segment.imagePart() != null) {
+                parts.add(segment.imagePart());
+            }
+        }
         
-        Matcher matcher = questionPattern.matcher(text);
+        Map<String, String> partHashes = new HashMap<>();
+        Map<String, Future<String>> images = new LinkedHashMap<>();
+        Map<String, String> texts = new HashMap<>();
+        List<HeapLease> leases = new ArrayList<>();
         
-        while (matcher.find()) {
-            try {
-                int questionNumber = Integer.parseInt(matcher.group(1).trim());
-                String fullContent = matcher.group(2).trim();
+        try {
+            for (String part : parts) {
+                ZipEntry entry = zip.getEntry(part);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.getSize() > maxDocxPartBytes) {
+                    log.warn("Skipping DOCX image {} of {} bytes (limit {})", part, entry.getSize(), maxDocxPartBytes);
+                    continue;
+                }
+                byte[] imageData;
+                try (InputStream inputStream = DocxStreamReader.openPart(zip, entry, maxDocxPartBytes)) {
+                    imageData = inputStream.readAllBytes();
+                }
                 
-                if (fullContent.length() < 10) continue;
+                String imageHash = OcrResultCache.sha256(imageData);
+                partHashes.put(part, imageHash);
+                if (images.containsKey(imageHash)) {
+                    continue;
+                }
                 
-                QuestionData question = new QuestionData();
-                question.setQuestionNumber(questionNumber);
-                question.setQuestionType("multiple_choice");
-                question.setPoints(10);
-                question.setCorrectAnswer("A");
+                Optional<String> cachedText = ocrResultCache.page(imageHash);
+                if (cachedText.isPresent()) {
+                    images.put(imageHash, CompletableFuture.completedFuture(cachedText.get()));
+                    continue;
+                }
                 
-                if (fullContent.contains("1)") || fullContent.contains("①")) {
-                    int optionStart = fullContent.indexOf("1)");
-                    if (optionStart == -1) optionStart = fullContent.indexOf("①");
-                    
-                    if (optionStart > 0) {
-                        String questionText = fullContent.substring(0, optionStart).trim();
-                        String optionsText = fullContent.substring(optionStart).trim();
-                        
-                        question.setQuestionText(questionText);
-                        
-                        String[] options = new String[4];
-                        Pattern numberPattern = Pattern.compile("(\\d+)\\)\\s*([^\\d)]+?)(?=\\d+\\)|$)", Pattern.DOTALL);
-                        Matcher numberMatcher = numberPattern.matcher(optionsText);
-                        
-                        while (numberMatcher.find()) {
-                            int optNum = Integer.parseInt(numberMatcher.group(1).trim());
-                            String optText = numberMatcher.group(2).trim();
-                            
-                            if (optNum >= 1 && optNum <= 4) {
-                                options[optNum - 1] = optText;
-                            }
+                Dimension size = imageSize(imageData);
+                if (size == null) {
+                    continue;
+                }
+                int step = subsampling(size);
+                long decodedPixels = (long) ((size.width + step - 1) / step) * ((size.height + step - 1) / step);
+                int costKb = (int) Math.min(heapBudgetKb, (decodedPixels * 4 + imageData.length) / 1024 + 1);
+                HeapLease lease = acquireHeap(costKb);
+                leases.add(lease);
+                images.put(imageHash, ocrExecutor.submit(() -> {
+                    if (!lease.claim()) {
+                        return null;
+                    }
+                    try {
+                        BufferedImage image = decodeImage(imageData, step);
+                        if (image == null) {
+                            return null;
                         }
-                        
-                        question.setOptionA(options[0] != null ? options[0] : "");
-                        question.setOptionB(options[1] != null ? options[1] : "");
-                        question.setOptionC(options[2] != null ? options[2] : "");
-                        question.setOptionD(options[3] != null ? options[3] : "");
+                        String imageText = tesseractPool.recognize(downscale(image), 0);
+                        ocrResultCache.putPage(imageHash, imageText);
+                        return imageText;
+                    } finally {
+                        lease.release();
                     }
-                } else {
-                    question.setQuestionText(fullContent);
-                    question.setQuestionType("subjective");
+                }));
+            }
+            
+            int done = 0;
+            for (Map.Entry<String, Future<String>> image : images.entrySet()) {
+                try {
+                    texts.put(image.getKey(), image.getValue().get());
+                } catch (ExecutionException e) {
+                    log.warn("Failed to process embedded image", e.getCause());
+                }
+                progress.update(++done, images.size());
+            }
+        } finally {
+            images.values().forEach(image -> image.cancel(true));
+            leases.forEach(HeapLease::releaseUnclaimed);
+        }
+        
+        log.info("DOCX images: {} references, {} unique parts, {} unique images",
+            segments.stream().filter(segment -> segment.imagePart() != null).count(), parts.size(), images.size());
+        
+        Map<String, String> partTexts = new HashMap<>();
+        partHashes.forEach((part, imageHash) -> {
+            String imageText = texts.get(imageHash);
+            if (imageText != null) {
+                partTexts.put(part, imageText);
+            }
+        });
+        return partTexts;
+    }
+    
+    private static Dimension imageSize(byte[] imageData) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    private static BufferedImage decodeImage(byte[] imageData, int step) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    private int subsampling(Dimension size) {
+        long pixels = (long) size.width * size.height;
+        int step = 1;
+        while (pixels / ((long) step * step) > maxPagePixels) {
+            step++;
+        }
+        return step;
+    }
+    
+    private BufferedImage downscale(BufferedImage image) {
+        long pixels = (long) image.getWidth() * image.getHeight();
+        if (pixels <= maxPagePixels) {
+            return image;
+        }
+        double scale = Math.sqrt((double) maxPagePixels / pixels);
+        int width = Math.max(1, (int) (image.getWidth() * scale));
+        int height = Math.max(1, (int) (image.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+    
+    private String readPages(PDDocument document, List<PageResult> report, PageProgress progress)
+            throws IOException, InterruptedException {
+        int pageCount = document.getNumberOfPages();
+        AtomicInteger completed = new AtomicInteger();
+        String[] pageTexts = new String[pageCount];
+        String[] sources = new String[pageCount];
+        PDFRenderer pdfRenderer = new PDFRenderer(document);
+        PDFTextStripper textStripper = new PDFTextStripper();
+        textStripper.setSortByPosition(true);
+        List<Future<?>> pages = new ArrayList<>();
+        List<HeapLease> leases = new ArrayList<>();
+        
+        try {
+            for (int page = 0; page < pageCount; page++) {
+                String embedded = embeddedText(document, textStripper, page);
+                if (embedded != null) {
+                    pageTexts[page] = embedded;
+                    sources[page] = SOURCE_TEXT;
+                    progress.update(completed.incrementAndGet(), pageCount);
+                    continue;
                 }
                 
-                questions.add(question);
+                PDPage pdPage = document.getPage(page);
+                int dpi = renderDpi(pdPage);
+                String pageHash = pageHash(pdPage, dpi);
+                Optional<String> cachedText = pageHash != null ? ocrResultCache.page(pageHash) : Optional.empty();
+                if (cachedText.isPresent()) {
+                    pageTexts[page] = cachedText.get();
+                    sources[page] = SOURCE_CACHE;
+                    progress.update(completed.incrementAndGet(), pageCount);
+                    continue;
+                }
+                
+                HeapLease lease = acquireHeap(Math.min(heapBudgetKb, renderCostKb(pdPage, dpi)));
+                leases.add(lease);
+                BufferedImage image;
+                try {
+                    image = pdfRenderer.renderImageWithDPI(page, dpi, renderImageType);
+                } catch (Exception e) {
+                    lease.releaseUnclaimed();
+                    sources[page] = SOURCE_FAILED;
+                    log.error("Failed to render page {}", page + 1, e);
+                    progress.update(completed.incrementAndGet(), pageCount);
+                    continue;
+                }
                 
-            } catch (Exception e) {
-                log.warn("Failed to parse question", e);
+                int index = page;
+                sources[page] = SOURCE_OCR;
+                pages.add(ocrExecutor.submit(() -> {
+                    if (!lease.claim()) {
+                        return;
+                    }
+                    try {
+                        pageTexts[index] = tesseractPool.recognize(image, dpi);
+                        if (pageHash != null) {
+                            ocrResultCache.putPage(pageHash, pageTexts[index]);
+                        }
+                    } catch (Exception e) {
+                        sources[index] = SOURCE_FAILED;
+                        log.error("Failed to process page {}", index + 1, e);
+                    } finally {
+                        lease.release();
+                        progress.update(completed.incrementAndGet(), pageCount);
+                    }
+                }));
+            }
+            
+            for (Future<?> page : pages) {
+                page.get();
             }
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pages.forEach(page -> page.cancel(true));
+            leases.forEach(HeapLease::releaseUnclaimed);
         }
         
-        return questions;
+        StringBuilder fullText = new StringBuilder();
+        for (int page = 0; page < pageCount; page++) {
+            String pageText = pageTexts[page];
+            if (pageText != null) {
+                fullText.append(pageText).append("\n");
+            }
+            report.add(new PageResult(page + 1, sources[page], pageText != null ? pageText.length() : 0));
+        }
+        return fullText.toString();
+    }
+    
+    private HeapLease acquireHeap(int costKb) throws InterruptedException {
+        heapBudget.acquire(costKb);
+        return new HeapLease(costKb);
+    }
+    
+    private PDDocument loadPdf(InputStreamSource source) throws IOException {
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(pdfBufferBytes);
+        PDDocument document;
+        if (source instanceof FileSystemResource file) {
+            document = PDDocument.load(file.getFile(), memory);
+        } else {
+            try (InputStream inputStream = source.getInputStream()) {
+                document = PDDocument.load(inputStream, memory);
+            }
+        }
+        document.setResourceCache(new DefaultResourceCache() {
+            @Override
+            public void put(COSObject indirect, PDXObject xobject) {
+            }
+        });
+        return document;
+    }
+    
+    private int renderDpi(PDPage page) {
+        PDRectangle box = page.getCropBox();
+        double squareInches = (box.getWidth() / 72.0) * (box.getHeight() / 72.0);
+        if (squareInches <= 0) {
+            return RENDER_DPI;
+        }
+        int fitted = (int) Math.sqrt(maxPagePixels / squareInches);
+        return Math.max(MIN_RENDER_DPI, Math.min(RENDER_DPI, fitted));
+    }
+    
+    private static int renderCostKb(PDPage page, int dpi) {
+        PDRectangle box = page.getCropBox();
+        long pixels = (long) (box.getWidth() / 72.0 * dpi) * (long) (box.getHeight() / 72.0 * dpi);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, pixels * 2 / 1024));
+    }
+    
+    private String embeddedText(PDDocument document, PDFTextStripper textStripper, int page) {
+        try {
+            textStripper.setStartPage(page + 1);
+            textStripper.setEndPage(page + 1);
+            String text = textStripper.getText(document);
+            
+            int minimum = hasLargeImage(document.getPage(page)) ? MIN_TEXT_CHARS_WITH_IMAGES : MIN_TEXT_CHARS;
+            return isReadableText(text, minimum) ? text : null;
+        } catch (Exception e) {
+            log.debug("Text layer unavailable on page {}: {}", page + 1, e.getMessage());
+            return null;
+        }
+    }
+    
+    private String pageHash(PDPage page, int dpi) {
+        try {
+            MessageDigest digest = OcrResultCache.newDigest();
+            digest.update((page.getMediaBox() + "/" + page.getRotation() + "/" + dpi + "/" + renderImageType)
+                .getBytes(StandardCharsets.UTF_8));
+            try (InputStream contents = page.getContents()) {
+                if (contents != null) {
+                    OcrResultCache.update(digest, contents);
+                }
+            }
+            
+            PDResources resources = page.getResources();
+            if (resources != null) {
+                for (COSName name : resources.getXObjectNames()) {
+                    digest.update(name.getName().getBytes(StandardCharsets.UTF_8));
+                    PDXObject xObject = resources.getXObject(name);
+                    if (xObject != null) {
+                        COSStream stream = xObject.getCOSObject();
+                        try (InputStream raw = stream.createRawInputStream()) {
+                            OcrResultCache.update(digest, raw);
+                        }
+                    }
+                }
+                for (COSName name : resources.getFontNames()) {
+                    digest.update(name.getName().getBytes(StandardCharsets.UTF_8));
+                    digest.update(String.valueOf(resources.getFont(name).getName()).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return OcrResultCache.hex(digest);
+        } catch (Exception e) {
+            log.debug("Could not hash page: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private static boolean isReadableText(String text, int minimum) {
+        if (text == null) {
+            return false;
+        }
+        
+        int visible = 0;
+        int letters = 0;
+        int garbled = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            if (Character.isWhitespace(codePoint)) {
+                continue;
+            }
+            visible++;
+            int type = Character.getType(codePoint);
+            if (codePoint == 0xFFFD || type == Character.PRIVATE_USE || type == Character.UNASSIGNED
+                    || type == Character.CONTROL) {
+                garbled++;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                letters++;
+            }
+        }
+        
+        return visible >= minimum && garbled * 20 <= visible && letters * 2 >= visible;
+    }
+    
+    private static boolean hasLargeImage(PDPage page) throws IOException {
+        PDResources resources = page.getResources();
+        if (resources == null) {
+            return false;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDImageXObject imageObject
+                    && (long) imageObject.getWidth() * imageObject.getHeight() >= LARGE_IMAGE_PIXELS) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<QuestionData> parseQuestions(String text) {
+        return QuestionTextParser.parse(text);
+    }
+
+    @FunctionalInterface
+    public interface PageProgress {
+        PageProgress NONE = (done, total) -> { };
+
+        void update(int done, int total);
+    }
+
+    public record PageResult(int page, String source, int characters) {
+    }
+
+    public record PdfExtraction(List<QuestionData> questions, List<PageResult> pages) {
+    }
+
+    private final class HeapLease {
+        private final int costKb;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private HeapLease(int costKb) {
+            this.costKb = costKb;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private void release() {
+            heapBudget.release(costKb);
+        }
+
+        private void releaseUnclaimed() {
+            if (claim()) {
+                release();
+            }
+        }
     }
 
     public static class QuestionData {
@@ -212,5 +691,19 @@ public class OcrService {
         public void setCorrectAnswer(String correctAnswer) { this.correctAnswer = correctAnswer; }
         public Integer getPoints() { return points; }
         public void setPoints(Integer points) { this.points = points; }
+
+        public QuestionData copy() {
+            QuestionData copy = new QuestionData();
+            copy.questionNumber = questionNumber;
+            copy.questionType = questionType;
+            copy.questionText = questionText;
+            copy.optionA = optionA;
+            copy.optionB = optionB;
+            copy.optionC = optionC;
+            copy.optionD = optionD;
+            copy.correctAnswer = correctAnswer;
+            copy.points = points;
+            return copy;
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.dungeon.heotaehoon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class QuestionTextParser {
+
+    private static final int MIN_CONTENT_LENGTH = 10;
+    private static final int MAX_NUMBER_DIGITS = 3;
+    private static final char FIRST_CIRCLED = '①';
+    private static final char LAST_CIRCLED = '④';
+
+    private QuestionTextParser() {
+    }
+
+    public static List<OcrService.QuestionData> parse(String text) {
+        List<OcrService.QuestionData> questions = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return questions;
+        }
+
+        List<int[]> markers = questionMarkers(text);
+        for (int m = 0; m < markers.size(); m++) {
+            int[] marker = markers.get(m);
+            int end = m + 1 < markers.size() ? markers.get(m + 1)[0] : text.length();
+            OcrService.QuestionData question = toQuestion(text, marker[2], marker[1], end);
+            if (question != null) {
+                questions.add(question);
+            }
+        }
+        return questions;
+    }
+
+    private static List<int[]> questionMarkers(String text) {
+        List<int[]> markers = new ArrayList<>();
+        int length = text.length();
+        int last = 0;
+        boolean lineStart = true;
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                lineStart = true;
+                i++;
+                continue;
+            }
+            if (lineStart && Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            boolean boundary = lineStart || Character.isWhitespace(text.charAt(i - 1));
+            if (isDigit(c) && boundary) {
+                int j = i;
+                int number = 0;
+                while (j < length && isDigit(text.charAt(j)) && j - i < MAX_NUMBER_DIGITS) {
+                    number = number * 10 + (text.charAt(j) - '0');
+                    j++;
+                }
+                boolean dotted = j < length && text.charAt(j) == '.'
+                        && (j + 1 == length || !isDigit(text.charAt(j + 1)));
+                if (dotted && number > 0 && (lineStart || number == last + 1)) {
+                    markers.add(new int[] {i, j + 1, number});
+                    last = number;
+                    i = j + 1;
+                } else {
+                    while (j < length && isDigit(text.charAt(j))) {
+                        j++;
+                    }
+                    i = j;
+                }
+                lineStart = false;
+                continue;
+            }
+
+            lineStart = false;
+            i++;
+        }
+        return markers;
+    }
+
+    private static OcrService.QuestionData toQuestion(String text, int number, int start, int end) {
+        String content = text.substring(start, end).trim();
+        if (content.length() < MIN_CONTENT_LENGTH) {
+            return null;
+        }
+
+        OcrService.QuestionData question = new OcrService.QuestionData();
+        question.setQuestionNumber(number);
+        question.setQuestionType("multiple_choice");
+        question.setPoints(10);
+        question.setCorrectAnswer("A");
+
+        int[] markerStart = new int[4];
+        int[] optionStart = new int[4];
+        int[] order = new int[4];
+        int found = 0;
+        int expected = 1;
+
+        for (int k = start; k < end && found < 4; k++) {
+            char c = text.charAt(k);
+            int slot = -1;
+            int markerAt = k;
+            int contentAt = k + 1;
+
+            if (c >= FIRST_CIRCLED && c <= LAST_CIRCLED) {
+                slot = c - FIRST_CIRCLED;
+            } else if (c >= '1' && c <= '4' && c - '0' == expected && k + 1 < end && text.charAt(k + 1) == ')') {
+                char before = k > start ? text.charAt(k - 1) : ' ';
+                if (Character.isWhitespace(before)) {
+                    slot = c - '1';
+                    contentAt = k + 2;
+                } else if (before == '(' && (k - 1 == start || !Character.isLetterOrDigit(text.charAt(k - 2)))) {
+                    slot = c - '1';
+                    markerAt = k - 1;
+                    contentAt = k + 2;
+                }
+            }
+
+            if (slot >= 0 && (found == 0 || order[found - 1] != slot)) {
+                markerStart[found] = markerAt;
+                optionStart[found] = contentAt;
+                order[found] = slot;
+                found++;
+                expected = slot + 2;
+                k = contentAt - 1;
+            }
+        }
+
+        if (found == 0) {
+            question.setQuestionText(content);
+            question.setQuestionType("subjective");
+            return question;
+        }
+
+        String stem = text.substring(start, markerStart[0]).trim();
+        question.setQuestionText(stem.isEmpty() ? content : stem);
+
+        String[] options = new String[4];
+        for (int o = 0; o < found; o++) {
+            int optionEnd = o + 1 < found ? markerStart[o + 1] : end;
+            options[order[o]] = text.substring(optionStart[o], optionEnd).trim();
+        }
+
+        question.setOptionA(options[0] != null ? options[0] : "");
+        question.setOptionB(options[1] != null ? options[1] : "");
+        question.setOptionC(options[2] != null ? options[2] : "");
+        question.setOptionD(options[3] != null ? options[3] : "");
+        return question;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
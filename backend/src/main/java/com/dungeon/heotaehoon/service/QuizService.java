@@ -1,5 +1,6 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
 import com.dungeon.heotaehoon.entity.*;
 import com.dungeon.heotaehoon.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class QuizService {
     private final RageMessageService rageMessageService;
     private final BossRepository bossRepository;
     private final LessonRepository lessonRepository;
+    private final StudentProgressAccumulator progressAccumulator;
 
     @Transactional
     public Map<String, Object> submitAnswer(String quizId, String studentId, String selectedAnswer) {
@@ -48,31 +50,26 @@ public class QuizService {
         
         if (isCorrect) {
             int expGain = 10;
-            student.setExp(student.getExp() + expGain);
-            student.setTotalCorrect(student.getTotalCorrect() + 1);
-            student.setPoints(student.getPoints() + 10);
+            StudentProgressAccumulator.Change change = progressAccumulator.apply(studentId,
+                    ProgressDelta.builder().exp(expGain).correct(1).points(10).build());
             
-            while (student.getExp() >= student.getLevel() * 100) {
-                student.setExp(student.getExp() - (student.getLevel() * 100));
-                student.setLevel(student.getLevel() + 1);
+            if (change.leveledUp()) {
                 response.put("levelUp", true);
-                response.put("newLevel", student.getLevel());
+                response.put("newLevel", change.after().getLevel());
             }
             
             response.put("expGain", expGain);
             response.put("message", rageMessageService.getPraiseMessage());
+            response.put("student", progressAccumulator.withProgress(student, change.after()));
         } else {
-            student.setTotalWrong(student.getTotalWrong() + 1);
-            student.setMentalGauge(Math.max(0, student.getMentalGauge() - 10));
+            StudentProgressAccumulator.Change change = progressAccumulator.apply(studentId,
+                    ProgressDelta.builder().wrong(1).mental(-10).build());
             
             response.put("rageMessage", rageMessageService.getRageMessage());
-            response.put("mentalGauge", student.getMentalGauge());
+            response.put("mentalGauge", change.after().getMentalGauge());
+            response.put("student", progressAccumulator.withProgress(student, change.after()));
         }
         
-        studentRepository.save(student);
-        
-        response.put("student", student);
-        
         return response;
     }
 
@@ -0,0 +1,256 @@
+package com.dungeon.heotaehoon.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class RaidEventBroadcaster {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String DAMAGE = "damage";
+    public static final String PARTICIPANT_JOINED = "participant_joined";
+    public static final String RAID_STARTED = "raid_started";
+    public static final String BOSS_DEFEATED = "boss_defeated";
+    public static final String RAID_ENDED = "raid_ended";
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int DRAIN_BATCH = 32;
+
+    private final long streamTimeoutMs;
+    private final long sendTimeoutMs;
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService watchdog;
+
+    public RaidEventBroadcaster(@Value("${raid.stream.timeout-ms:1800000}") long streamTimeoutMs,
+                                @Value("${raid.stream.sender-threads:4}") int senderThreads,
+                                @Value("${raid.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        AtomicInteger counter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "raid-sse-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "raid-sse-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, sendTimeoutMs / 4);
+        this.watchdog.scheduleWithFixedDelay(this::disconnectStalled, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String sessionId, Map<String, Object> snapshot) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        channels.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(new RaidEvent(SNAPSHOT, snapshot));
+        return emitter;
+    }
+
+    public void publish(String sessionId, String type, Map<String, Object> payload) {
+        afterCommit(() -> {
+            Set<Subscriber> subscribers = channels.get(sessionId);
+            if (subscribers == null || subscribers.isEmpty()) {
+                return;
+            }
+            RaidEvent event = new RaidEvent(type, payload);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        });
+    }
+
+    public void close(String sessionId) {
+        afterCommit(() -> {
+            Set<Subscriber> subscribers = channels.remove(sessionId);
+            if (subscribers != null) {
+                subscribers.forEach(Subscriber::closeAfterDrain);
+            }
+        });
+    }
+
+    public int subscriberCount(String sessionId) {
+        Set<Subscriber> subscribers = channels.get(sessionId);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+        watchdog.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                long started = subscriber.sendingSince;
+                if (started != 0 && now - started > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                    log.debug("Disconnecting raid stream subscriber for session {} blocked in send", subscriber.sessionId);
+                    subscriber.detach(new TimeoutException("SSE send blocked for more than " + sendTimeoutMs + "ms"));
+                }
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.sessionId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private record RaidEvent(String type, Map<String, Object> payload) {
+    }
+
+    private class Subscriber {
+        private final String sessionId;
+        private final SseEmitter emitter;
+        private final Queue<RaidEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closing;
+        private volatile boolean disconnected;
+        private volatile Exception disconnectCause;
+        private volatile long sendingSince;
+        private int lowestHp = Integer.MAX_VALUE;
+
+        private Subscriber(String sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+
+        private void offer(RaidEvent event) {
+            if (disconnected) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("Dropping slow raid stream subscriber for session {}", sessionId);
+                detach(null);
+                submitDrain();
+                return;
+            }
+            schedule();
+        }
+
+        private void closeAfterDrain() {
+            closing = true;
+            schedule();
+        }
+
+        private void detach(Exception cause) {
+            disconnectCause = cause;
+            disconnected = true;
+            unsubscribe(this);
+            queue.clear();
+        }
+
+        private boolean isStale(RaidEvent event) {
+            if (!(event.payload().get("currentHp") instanceof Number hp)) {
+                return false;
+            }
+            if (hp.intValue() > lowestHp) {
+                return true;
+            }
+            lowestHp = hp.intValue();
+            return false;
+        }
+
+        private void schedule() {
+            if (!disconnected) {
+                submitDrain();
+            }
+        }
+
+        private void submitDrain() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (Exception e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    RaidEvent event = queue.poll();
+                    if (event == null || disconnected) {
+                        break;
+                    }
+                    if (isStale(event)) {
+                        continue;
+                    }
+                    sendingSince = System.nanoTime();
+                    try {
+                        emitter.send(SseEmitter.event().name(event.type()).data(event.payload()));
+                    } finally {
+                        sendingSince = 0;
+                    }
+                }
+            } catch (Exception e) {
+                detach(e);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (disconnected) {
+                if (disconnectCause != null) {
+                    emitter.completeWithError(disconnectCause);
+                } else {
+                    emitter.complete();
+                }
+                return;
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            } else if (closing) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.RaidDeadline;
+import com.dungeon.heotaehoon.repository.RaidSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RaidExpiryScheduler {
+
+    private static final String EXPIRE_WAITING_SQL =
+            "UPDATE raid_sessions SET session_status = '" + RaidSessionState.FAILED + "', is_success = false, ended_at = ? " +
+            "WHERE id = ? AND session_status = 'waiting'";
+
+    private final RaidSessionRepository raidSessionRepository;
+    private final RaidSessionRegistry raidSessionRegistry;
+    private final RaidEventBroadcaster raidEventBroadcaster;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DelayQueue<Deadline> deadlines = new DelayQueue<>();
+    private volatile Thread worker;
+
+    public RaidExpiryScheduler(RaidSessionRepository raidSessionRepository,
+                               RaidSessionRegistry raidSessionRegistry,
+                               RaidEventBroadcaster raidEventBroadcaster,
+                               JdbcTemplate jdbcTemplate) {
+        this.raidSessionRepository = raidSessionRepository;
+        this.raidSessionRegistry = raidSessionRegistry;
+        this.raidEventBroadcaster = raidEventBroadcaster;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<RaidDeadline> pending = raidSessionRepository
+                .findDeadlinesBySessionStatusIn(List.of("waiting", RaidSessionState.IN_PROGRESS));
+        for (RaidDeadline deadline : pending) {
+            deadlines.add(new Deadline(deadline.getSessionId(), deadline.getDeadline()));
+        }
+
+        Thread thread = new Thread(this::run, "raid-expiry");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+
+        log.info("Raid expiry scheduler started with {} pending deadlines", pending.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public void schedule(String sessionId, LocalDateTime deadline) {
+        if (deadline == null) {
+            return;
+        }
+        Runnable action = () -> deadlines.add(new Deadline(sessionId, deadline));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public boolean expireIfDue(RaidSessionState state) {
+        if (state.getDeadline() == null || LocalDateTime.now().isBefore(state.getDeadline())) {
+            return false;
+        }
+        expire(state.getSessionId());
+        return true;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expire(deadlines.take().sessionId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Failed to expire raid session", e);
+            }
+        }
+    }
+
+    private void expire(String sessionId) {
+        RaidSessionState state = raidSessionRegistry.find(sessionId).orElse(null);
+        if (state != null) {
+            if (raidSessionRegistry.fail(state)) {
+                publishEnded(sessionId, state.getCurrentHp(), state.getTotalDamageDealt());
+            }
+            return;
+        }
+
+        int expired = jdbcTemplate.update(EXPIRE_WAITING_SQL, Timestamp.valueOf(LocalDateTime.now()), sessionId);
+        if (expired > 0) {
+            publishEnded(sessionId, null, 0);
+        }
+    }
+
+    private void publishEnded(String sessionId, Integer currentHp, int totalDamageDealt) {
+        Map<String, Object> ended = new HashMap<>();
+        ended.put("sessionStatus", RaidSessionState.FAILED);
+        ended.put("isSuccess", false);
+        ended.put("currentHp", currentHp);
+        ended.put("totalDamageDealt", totalDamageDealt);
+        raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.RAID_ENDED, ended);
+        raidEventBroadcaster.close(sessionId);
+        log.info("Raid session {} expired", sessionId);
+    }
+
+    private record Deadline(String sessionId, long dueAtMillis) implements Delayed {
+
+        private Deadline(String sessionId, LocalDateTime deadline) {
+            this(sessionId, deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Deadline) other).dueAtMillis);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.RaidQuestion;
+import com.dungeon.heotaehoon.entity.Lesson;
+import com.dungeon.heotaehoon.entity.Quiz;
+import com.dungeon.heotaehoon.entity.RaidBoss;
+import com.dungeon.heotaehoon.repository.LessonRepository;
+import com.dungeon.heotaehoon.repository.QuizRepository;
+import com.dungeon.heotaehoon.repository.RaidBossRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class RaidQuestionPool {
+
+    private static final String[] LETTERS = {"A", "B", "C", "D"};
+
+    private final AIService aiService;
+    private final QuizRepository quizRepository;
+    private final RaidBossRepository raidBossRepository;
+    private final LessonRepository lessonRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final int capacity;
+    private final int lowWatermark;
+    private final int maxBuckets;
+    private final int refillAfterMisses;
+    private final long topicsTtlMillis;
+    private final Set<String> configuredTopics;
+    private final ThreadPoolExecutor refillExecutor;
+
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile Set<String> knownTopics = Set.of();
+    private volatile long topicsLoadedAt;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder restored = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder rejectedTopics = new LongAdder();
+
+    public RaidQuestionPool(AIService aiService,
+                            QuizRepository quizRepository,
+                            RaidBossRepository raidBossRepository,
+                            LessonRepository lessonRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${raid.quiz-pool.capacity:20}") int capacity,
+                            @Value("${raid.quiz-pool.low-watermark:5}") int lowWatermark,
+                            @Value("${raid.quiz-pool.refill-threads:2}") int refillThreads,
+                            @Value("${raid.quiz-pool.max-buckets:64}") int maxBuckets,
+                            @Value("${raid.quiz-pool.refill-after-misses:1}") int refillAfterMisses,
+                            @Value("${raid.quiz-pool.topics-ttl-ms:60000}") long topicsTtlMillis,
+                            @Value("${raid.quiz-pool.topics:자료구조,알고리즘,운영체제,네트워크,데이터베이스}") List<String> topics) {
+        this.aiService = aiService;
+        this.quizRepository = quizRepository;
+        this.raidBossRepository = raidBossRepository;
+        this.lessonRepository = lessonRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.lowWatermark = lowWatermark;
+        this.maxBuckets = Math.max(1, maxBuckets);
+        this.refillAfterMisses = Math.max(1, refillAfterMisses);
+        this.topicsTtlMillis = topicsTtlMillis;
+        Set<String> configured = new HashSet<>();
+        for (String topic : topics) {
+            if (topic != null && !topic.isBlank()) {
+                configured.add(topic.trim());
+            }
+        }
+        this.configuredTopics = Set.copyOf(configured);
+        AtomicInteger counter = new AtomicInteger();
+        this.refillExecutor = new ThreadPoolExecutor(refillThreads, refillThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "raid-quiz-refill-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isKnownTopic(String topic) {
+        if (topic == null || topic.isBlank()) {
+            return false;
+        }
+        String normalized = topic.trim();
+        return configuredTopics.contains(normalized) || knownTopics().contains(normalized);
+    }
+
+    public RaidQuestion take(String topic, int difficulty) {
+        if (!isKnownTopic(topic)) {
+            rejectedTopics.increment();
+            throw new RuntimeException("알 수 없는 레이드 주제입니다: " + topic);
+        }
+        Key key = new Key(topic.trim(), difficulty);
+        Bucket bucket = bucketFor(key);
+
+        RaidQuestion question = bucket.poll();
+        if (question != null) {
+            hits.increment();
+            if (bucket.size() <= lowWatermark) {
+                scheduleRefill(key, bucket);
+            }
+            return question;
+        }
+
+        misses.increment();
+        if (bucket.misses.incrementAndGet() >= refillAfterMisses) {
+            scheduleRefill(key, bucket);
+        }
+
+        List<RaidQuestion> stored = restore(key, 1);
+        if (!stored.isEmpty()) {
+            return stored.get(0);
+        }
+        return generate(key);
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long refillCount = refills.sum();
+
+        Map<String, Integer> sizes = new HashMap<>();
+        buckets.forEach((key, bucket) -> sizes.put(key.topic() + "#" + key.difficulty(), bucket.size()));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        stats.put("refills", refillCount);
+        stats.put("averageRefillMillis", refillCount > 0 ? refillNanos.sum() / refillCount / 1_000_000.0 : 0.0);
+        stats.put("generated", generated.sum());
+        stats.put("overflowed", overflowed.sum());
+        stats.put("restored", restored.sum());
+        stats.put("evicted", evicted.sum());
+        stats.put("rejectedTopics", rejectedTopics.sum());
+        stats.put("capacity", capacity);
+        stats.put("lowWatermark", lowWatermark);
+        stats.put("maxBuckets", maxBuckets);
+        stats.put("refillAfterMisses", refillAfterMisses);
+        stats.put("pools", sizes);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+        Map<Key, Bucket> remaining;
+        synchronized (buckets) {
+            remaining = new HashMap<>(buckets);
+            buckets.clear();
+        }
+        remaining.forEach(this::drain);
+    }
+
+    private Bucket bucketFor(Key key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.lastUsed = System.nanoTime();
+            return bucket;
+        }
+
+        Map.Entry<Key, Bucket> eldest = null;
+        synchronized (buckets) {
+            bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxBuckets) {
+                    for (Map.Entry<Key, Bucket> entry : buckets.entrySet()) {
+                        if (eldest == null || entry.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                            eldest = entry;
+                        }
+                    }
+                    buckets.remove(eldest.getKey());
+                }
+                bucket = new Bucket();
+                buckets.put(key, bucket);
+            }
+        }
+        if (eldest != null) {
+            evicted.increment();
+            drain(eldest.getKey(), eldest.getValue());
+        }
+        return bucket;
+    }
+
+    private void drain(Key key, Bucket bucket) {
+        bucket.evicted = true;
+        List<RaidQuestion> remaining = new ArrayList<>();
+        RaidQuestion question;
+        while ((question = bucket.poll()) != null) {
+            remaining.add(question);
+        }
+        if (!remaining.isEmpty()) {
+            spill(key, remaining);
+        }
+    }
+
+    private Set<String> knownTopics() {
+        if (System.currentTimeMillis() - topicsLoadedAt < topicsTtlMillis) {
+            return knownTopics;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() - topicsLoadedAt < topicsTtlMillis) {
+                return knownTopics;
+            }
+            try {
+                Set<String> topics = transactionTemplate.execute(status -> {
+                    Set<String> loaded = new HashSet<>();
+                    for (RaidBoss boss : raidBossRepository.findByIsActiveTrueAndIsDefeatedFalse()) {
+                        addTopic(loaded, boss.getBossName());
+                    }
+                    for (Lesson lesson : lessonRepository.findByIsActiveTrue()) {
+                        addTopic(loaded, lesson.getSubject());
+                        addTopic(loaded, lesson.getTitle());
+                    }
+                    return loaded;
+                });
+                knownTopics = Set.copyOf(topics);
+            } catch (Exception e) {
+                log.warn("Failed to load raid topics: {}", e.getMessage());
+            }
+            topicsLoadedAt = System.currentTimeMillis();
+            return knownTopics;
+        }
+    }
+
+    private void addTopic(Set<String> topics, String topic) {
+        if (topic != null && !topic.isBlank()) {
+            topics.add(topic.trim());
+        }
+    }
+
+    private void scheduleRefill(Key key, Bucket bucket) {
+        if (bucket.refilling.compareAndSet(false, true)) {
+            try {
+                refillExecutor.execute(() -> refill(key, bucket));
+            } catch (RejectedExecutionException e) {
+                bucket.refilling.set(false);
+                log.debug("Raid quiz refill queue is full, skipping {}#{}", key.topic(), key.difficulty());
+            }
+        }
+    }
+
+    private void refill(Key key, Bucket bucket) {
+        long started = System.nanoTime();
+        try {
+            int needed = capacity - bucket.size();
+            if (needed <= 0) {
+                return;
+            }
+
+            for (RaidQuestion question : restore(key, needed)) {
+                offer(key, bucket, question);
+            }
+
+            int attempts = (capacity - bucket.size()) * 2;
+            while (!bucket.evicted && bucket.size() < capacity && attempts-- > 0 && !Thread.currentThread().isInterrupted()) {
+                offer(key, bucket, generate(key));
+            }
+        } catch (Exception e) {
+            log.warn("Raid quiz refill failed for {}#{}: {}", key.topic(), key.difficulty(), e.getMessage());
+        } finally {
+            refills.increment();
+            refillNanos.add(System.nanoTime() - started);
+            bucket.refilling.set(false);
+        }
+    }
+
+    private void offer(Key key, Bucket bucket, RaidQuestion question) {
+        if (bucket.evicted || !bucket.offer(question, capacity)) {
+            spill(key, List.of(question));
+        }
+    }
+
+    private RaidQuestion generate(Key key) {
+        String json = aiService.generateFreshQuiz(key.topic(), key.topic(), key.difficulty());
+        generated.increment();
+        return parse(json);
+    }
+
+    private List<RaidQuestion> restore(Key key, int limit) {
+        try {
+            List<RaidQuestion> questions = transactionTemplate.execute(status -> {
+                List<Quiz> stored = quizRepository.findByRaidTopicAndDifficultyLevelOrderByCreatedAtAsc(
+                        key.topic(), key.difficulty(), PageRequest.of(0, limit));
+                if (stored.isEmpty()) {
+                    return List.<RaidQuestion>of();
+                }
+                quizRepository.deleteAllInBatch(stored);
+                List<RaidQuestion> restoredQuestions = new ArrayList<>(stored.size());
+                for (Quiz quiz : stored) {
+                    restoredQuestions.add(toQuestion(quiz));
+                }
+                return restoredQuestions;
+            });
+            restored.add(questions.size());
+            return questions;
+        } catch (Exception e) {
+            log.warn("Failed to restore raid questions for {}#{}: {}", key.topic(), key.difficulty(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void spill(Key key, List<RaidQuestion> questions) {
+        try {
+            List<Quiz> quizzes = new ArrayList<>(questions.size());
+            for (RaidQuestion question : questions) {
+                Quiz quiz = toQuiz(key, question);
+                if (quiz != null) {
+                    quizzes.add(quiz);
+                }
+            }
+            if (quizzes.isEmpty()) {
+                return;
+            }
+            quizRepository.saveAll(quizzes);
+            overflowed.add(quizzes.size());
+        } catch (Exception e) {
+            log.warn("Failed to persist {} overflow raid questions: {}", questions.size(), e.getMessage());
+        }
+    }
+
+    private RaidQuestion parse(String json) {
+        try {
+            JsonNode node = objectMapper.readTree(json.replace("```json", "").replace("```", "").trim());
+
+            List<String> options = new ArrayList<>();
+            if (node.has("options") && node.get("options").isArray()) {
+                node.get("options").forEach(option -> options.add(option.asText()));
+            } else {
+                for (String letter : LETTERS) {
+                    options.add(node.path("option" + letter).asText(""));
+                }
+            }
+
+            String answer = node.has("correctAnswer")
+                    ? node.get("correctAnswer").asText()
+                    : node.path("correct_answer").asText("A");
+
+            return RaidQuestion.builder()
+                    .question(node.path("question").asText("레이드 문제를 불러올 수 없습니다"))
+                    .options(options)
+                    .correctAnswer(resolveAnswer(answer.trim(), options))
+                    .explanation(node.path("explanation").asText(null))
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException("레이드 문제 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    private String resolveAnswer(String answer, List<String> options) {
+        for (int i = 0; i < LETTERS.length && i < options.size(); i++) {
+            if (LETTERS[i].equalsIgnoreCase(answer) || String.valueOf(i + 1).equals(answer)) {
+                return options.get(i);
+            }
+        }
+        return answer;
+    }
+
+    private Quiz toQuiz(Key key, RaidQuestion question) {
+        List<String> options = question.getOptions();
+        int answerIndex = options.indexOf(question.getCorrectAnswer());
+        if (answerIndex < 0 || answerIndex >= LETTERS.length) {
+            return null;
+        }
+        return Quiz.builder()
+                .question(question.getQuestion())
+                .optionA(options.size() > 0 ? options.get(0) : "")
+                .optionB(options.size() > 1 ? options.get(1) : "")
+                .optionC(options.size() > 2 ? options.get(2) : "")
+                .optionD(options.size() > 3 ? options.get(3) : "")
+                .correctAnswer(LETTERS[answerIndex])
+                .explanation(question.getExplanation())
+                .difficultyLevel(key.difficulty())
+                .raidTopic(key.topic())
+                .build();
+    }
+
+    private RaidQuestion toQuestion(Quiz quiz) {
+        List<String> options = List.of(quiz.getOptionA(), quiz.getOptionB(), quiz.getOptionC(), quiz.getOptionD());
+        return RaidQuestion.builder()
+                .question(quiz.getQuestion())
+                .options(options)
+                .correctAnswer(resolveAnswer(quiz.getCorrectAnswer().trim(), options))
+                .explanation(quiz.getExplanation())
+                .build();
+    }
+
+    private record Key(String topic, int difficulty) {
+    }
+
+    private static class Bucket {
+        private final Queue<RaidQuestion> questions = new ConcurrentLinkedQueue<>();
+        private final Set<String> texts = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private final AtomicInteger misses = new AtomicInteger();
+        private volatile boolean evicted;
+        private volatile long lastUsed = System.nanoTime();
+
+        private RaidQuestion poll() {
+            RaidQuestion question = questions.poll();
+            if (question != null) {
+                size.decrementAndGet();
+                texts.remove(question.getQuestion());
+            }
+            return question;
+        }
+
+        private boolean offer(RaidQuestion question, int capacity) {
+            if (!texts.add(question.getQuestion())) {
+                return true;
+            }
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                texts.remove(question.getQuestion());
+                return false;
+            }
+            questions.add(question);
+            return true;
+        }
+
+        private int size() {
+            return size.get();
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
 import com.dungeon.heotaehoon.entity.*;
 import com.dungeon.heotaehoon.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +24,10 @@ public class RaidService {
     private final RaidParticipantRepository raidParticipantRepository;
     private final StudentRepository studentRepository;
     private final StudentGroupRepository groupRepository;
+    private final StudentProgressAccumulator progressAccumulator;
+    private final RaidSessionRegistry raidSessionRegistry;
+    private final RaidEventBroadcaster raidEventBroadcaster;
+    private final RaidExpiryScheduler raidExpiryScheduler;
 
     public List<RaidBoss> getActiveRaidBosses() {
         return raidBossRepository.findByIsActiveTrueAndIsDefeatedFalse();
@@ -53,6 +61,7 @@ public class RaidService {
                 .build();
 
         raidSessionRepository.save(session);
+        raidExpiryScheduler.schedule(session.getId(), deadline);
 
         Map<String, Object> result = new HashMap<>();
         result.put("session", session);
@@ -82,6 +91,12 @@ public class RaidService {
         session.setParticipantCount(session.getParticipantCount() + 1);
         raidSessionRepository.save(session);
 
+        Map<String, Object> joined = new HashMap<>();
+        joined.put("studentId", student.getId());
+        joined.put("displayName", student.getDisplayName());
+        joined.put("participantCount", session.getParticipantCount());
+        raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.PARTICIPANT_JOINED, joined);
+
         Map<String, Object> result = new HashMap<>();
         result.put("session", session);
         result.put("participant", participant);
@@ -94,13 +109,26 @@ public class RaidService {
         RaidSession session = raidSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("레이드 세션을 찾을 수 없습니다"));
 
+        if (RaidSessionState.COMPLETED.equals(session.getSessionStatus())
+                || RaidSessionState.FAILED.equals(session.getSessionStatus())) {
+            throw new RuntimeException("이미 종료된 레이드입니다");
+        }
+
         if (session.getParticipantCount() < session.getRaidBoss().getMinParticipants()) {
             throw new RuntimeException("최소 참가 인원이 부족합니다");
         }
 
-        session.setSessionStatus("in_progress");
-        session.setStartedAt(LocalDateTime.now());
-        raidSessionRepository.save(session);
+        if (raidSessionRepository.markStarted(sessionId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("대기 중인 레이드가 아닙니다");
+        }
+        session = raidSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("레이드 세션을 찾을 수 없습니다"));
+
+        Map<String, Object> started = new HashMap<>();
+        started.put("currentHp", session.getCurrentHp());
+        started.put("startedAt", session.getStartedAt());
+        started.put("deadline", session.getDeadline());
+        raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.RAID_STARTED, started);
 
         Map<String, Object> result = new HashMap<>();
         result.put("session", session);
@@ -108,47 +136,61 @@ public class RaidService {
         return result;
     }
 
-    @Transactional
     public Map<String, Object> dealDamage(String sessionId, String studentId, int damage) {
-        RaidSession session = raidSessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("레이드 세션을 찾을 수 없습니다"));
-
-        if (!"in_progress".equals(session.getSessionStatus())) {
-            throw new RuntimeException("진행 중인 레이드가 아닙니다");
-        }
+        RaidSessionState state = raidSessionRegistry.find(sessionId)
+                .filter(RaidSessionState::isActive)
+                .filter(live -> !raidExpiryScheduler.expireIfDue(live))
+                .orElseThrow(() -> new RuntimeException("진행 중인 레이드가 아닙니다"));
 
-        RaidParticipant participant = raidParticipantRepository
-                .findByRaidSessionIdAndStudentId(sessionId, studentId)
+        RaidSessionState.Participant participant = raidSessionRegistry.participant(state, studentId)
                 .orElseThrow(() -> new RuntimeException("레이드 참가자가 아닙니다"));
 
-        int newHp = Math.max(0, session.getCurrentHp() - damage);
-        session.setCurrentHp(newHp);
-        session.setTotalDamageDealt(session.getTotalDamageDealt() + damage);
+        RaidSessionState.Hit hit = state.hit(participant, damage);
 
-        participant.setDamageDealt(participant.getDamageDealt() + damage);
-        participant.setCorrectAnswers(participant.getCorrectAnswers() + 1);
-
-        boolean isDefeated = newHp <= 0;
+        if (hit.damage() > 0) {
+            Map<String, Object> dealt = new HashMap<>();
+            dealt.put("studentId", studentId);
+            dealt.put("damage", hit.damage());
+            dealt.put("currentHp", hit.currentHp());
+            dealt.put("participantDamage", participant.getDamageDealt());
+            raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.DAMAGE, dealt);
+        }
 
-        if (isDefeated) {
-            session.setSessionStatus("completed");
-            session.setIsSuccess(true);
-            session.setEndedAt(LocalDateTime.now());
-            
-            RaidBoss boss = session.getRaidBoss();
-            boss.setIsDefeated(true);
-            raidBossRepository.save(boss);
+        if (hit.defeated()) {
+            raidSessionRegistry.complete(state);
+
+            Map<String, Object> defeated = new HashMap<>();
+            defeated.put("studentId", studentId);
+            defeated.put("totalDamageDealt", state.getTotalDamageDealt());
+            raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.BOSS_DEFEATED, defeated);
+
+            Map<String, Object> ended = new HashMap<>();
+            ended.put("sessionStatus", state.getStatus());
+            ended.put("isSuccess", true);
+            ended.put("currentHp", 0);
+            ended.put("totalDamageDealt", state.getTotalDamageDealt());
+            raidEventBroadcaster.publish(sessionId, RaidEventBroadcaster.RAID_ENDED, ended);
+            raidEventBroadcaster.close(sessionId);
         }
 
-        raidSessionRepository.save(session);
-        raidParticipantRepository.save(participant);
+        Map<String, Object> sessionView = new HashMap<>();
+        sessionView.put("id", state.getSessionId());
+        sessionView.put("sessionStatus", state.getStatus());
+        sessionView.put("currentHp", hit.currentHp());
+        sessionView.put("totalDamageDealt", state.getTotalDamageDealt());
+
+        Map<String, Object> participantView = new HashMap<>();
+        participantView.put("id", participant.getParticipantId());
+        participantView.put("studentId", participant.getStudentId());
+        participantView.put("damageDealt", participant.getDamageDealt());
+        participantView.put("correctAnswers", participant.getCorrectAnswers());
 
         Map<String, Object> result = new HashMap<>();
-        result.put("session", session);
-        result.put("participant", participant);
-        result.put("isDefeated", isDefeated);
-        result.put("damageDealt", damage);
-        result.put("message", isDefeated ? "보스 처치!" : "데미지 " + damage);
+        result.put("session", sessionView);
+        result.put("participant", participantView);
+        result.put("isDefeated", hit.defeated());
+        result.put("damageDealt", hit.damage());
+        result.put("message", hit.defeated() ? "보스 처치!" : "데미지 " + hit.damage());
         return result;
     }
 
@@ -165,40 +207,77 @@ public class RaidService {
                 .findByRaidSessionIdAndStudentId(sessionId, studentId)
                 .orElseThrow(() -> new RuntimeException("레이드 참가자가 아닙니다"));
 
-        if (participant.getHasReceivedReward()) {
+        if (raidParticipantRepository.markRewardReceived(participant.getId()) == 0) {
             throw new RuntimeException("이미 보상을 받았습니다");
         }
 
         Student student = participant.getStudent();
         RaidBoss boss = session.getRaidBoss();
 
-        student.setExp(student.getExp() + boss.getRewardExp());
-        student.setPoints(student.getPoints() + boss.getRewardPoints());
-
-        while (student.getExp() >= 100) {
-            student.setExp(student.getExp() - 100);
-            student.setLevel(student.getLevel() + 1);
-        }
-
-        participant.setHasReceivedReward(true);
-
-        studentRepository.save(student);
-        raidParticipantRepository.save(participant);
+        StudentProgressAccumulator.Change change = progressAccumulator.apply(student.getId(),
+                ProgressDelta.builder().exp(boss.getRewardExp()).points(boss.getRewardPoints()).build());
 
         Map<String, Object> result = new HashMap<>();
-        result.put("student", student);
+        result.put("student", progressAccumulator.withProgress(student, change.after()));
         result.put("rewardExp", boss.getRewardExp());
         result.put("rewardPoints", boss.getRewardPoints());
         result.put("message", "보상을 받았습니다!");
         return result;
     }
 
+    public SseEmitter streamRaidSession(String sessionId) {
+        RaidSession session = raidSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("레이드 세션을 찾을 수 없습니다"));
+
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("id", session.getId());
+        snapshot.put("bossName", session.getRaidBoss().getBossName());
+        snapshot.put("totalHp", session.getRaidBoss().getTotalHp());
+        snapshot.put("participantCount", session.getParticipantCount());
+        snapshot.put("deadline", session.getDeadline());
+
+        Optional<RaidSessionState> live = raidSessionRegistry.peek(sessionId);
+        if (live.isPresent()) {
+            snapshot.put("sessionStatus", live.get().getStatus());
+            snapshot.put("currentHp", live.get().getCurrentHp());
+            snapshot.put("totalDamageDealt", live.get().getTotalDamageDealt());
+        } else {
+            snapshot.put("sessionStatus", session.getSessionStatus());
+            snapshot.put("currentHp", session.getCurrentHp());
+            snapshot.put("totalDamageDealt", session.getTotalDamageDealt());
+        }
+
+        return raidEventBroadcaster.subscribe(sessionId, snapshot);
+    }
+
     public Map<String, Object> getRaidSessionDetails(String sessionId) {
         RaidSession session = raidSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("레이드 세션을 찾을 수 없습니다"));
 
         List<RaidParticipant> participants = raidParticipantRepository.findByRaidSessionId(sessionId);
 
+        Optional<RaidSessionState> live = raidSessionRegistry.peek(sessionId);
+        if (live.isPresent()) {
+            RaidSessionState state = live.get();
+            session = session.toBuilder()
+                    .sessionStatus(state.getStatus())
+                    .currentHp(state.getCurrentHp())
+                    .totalDamageDealt(state.getTotalDamageDealt())
+                    .build();
+            participants = participants.stream()
+                    .map(participant -> {
+                        RaidSessionState.Participant current = state.participant(participant.getStudent().getId());
+                        if (current == null) {
+                            return participant;
+                        }
+                        return participant.toBuilder()
+                                .damageDealt(current.getDamageDealt())
+                                .correctAnswers(current.getCorrectAnswers())
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+        }
+
         Map<String, Object> result = new HashMap<>();
         result.put("session", session);
         result.put("participants", participants);
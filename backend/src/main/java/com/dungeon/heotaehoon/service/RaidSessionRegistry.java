@@ -0,0 +1,192 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.entity.RaidParticipant;
+import com.dungeon.heotaehoon.entity.RaidSession;
+import com.dungeon.heotaehoon.repository.RaidParticipantRepository;
+import com.dungeon.heotaehoon.repository.RaidSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class RaidSessionRegistry {
+
+    private static final String CHECKPOINT_SESSION_SQL =
+            "UPDATE raid_sessions SET current_hp = ?, total_damage_dealt = ? WHERE id = ?";
+
+    private static final String CHECKPOINT_PARTICIPANT_SQL =
+            "UPDATE raid_participants SET damage_dealt = ?, correct_answers = ? WHERE id = ?";
+
+    private static final String FINISH_SESSION_SQL =
+            "UPDATE raid_sessions SET session_status = ?, is_success = ?, ended_at = ? " +
+            "WHERE id = ? AND session_status = '" + RaidSessionState.IN_PROGRESS + "'";
+
+    private static final String DEFEAT_BOSS_SQL =
+            "UPDATE raid_bosses SET is_defeated = true WHERE id = ?";
+
+    private final RaidSessionRepository raidSessionRepository;
+    private final RaidParticipantRepository raidParticipantRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate checkpointTransaction;
+
+    private final Map<String, RaidSessionState> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    public RaidSessionRegistry(RaidSessionRepository raidSessionRepository,
+                               RaidParticipantRepository raidParticipantRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.raidSessionRepository = raidSessionRepository;
+        this.raidParticipantRepository = raidParticipantRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointTransaction = new TransactionTemplate(transactionManager);
+        this.checkpointTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<RaidSessionState> find(String sessionId) {
+        RaidSessionState state = sessions.get(sessionId);
+        if (state != null) {
+            return Optional.of(state);
+        }
+        return raidSessionRepository.findById(sessionId)
+                .filter(session -> RaidSessionState.IN_PROGRESS.equals(session.getSessionStatus()))
+                .map(this::register);
+    }
+
+    public Optional<RaidSessionState> peek(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public RaidSessionState register(RaidSession session) {
+        RaidSessionState state = new RaidSessionState(
+                session.getId(),
+                session.getRaidBoss().getId(),
+                session.getRaidBoss().getTotalHp(),
+                session.getCurrentHp(),
+                session.getTotalDamageDealt(),
+                session.getDeadline());
+
+        for (RaidParticipant participant : raidParticipantRepository.findByRaidSessionId(session.getId())) {
+            state.addParticipant(participant.getStudent().getId(), participant.getId(),
+                    participant.getDamageDealt(), participant.getCorrectAnswers());
+        }
+
+        RaidSessionState existing = sessions.putIfAbsent(session.getId(), state);
+        return existing != null ? existing : state;
+    }
+
+    public Optional<RaidSessionState.Participant> participant(RaidSessionState state, String studentId) {
+        RaidSessionState.Participant participant = state.participant(studentId);
+        if (participant != null) {
+            return Optional.of(participant);
+        }
+        return raidParticipantRepository.findByRaidSessionIdAndStudentId(state.getSessionId(), studentId)
+                .map(row -> state.addParticipant(studentId, row.getId(), row.getDamageDealt(), row.getCorrectAnswers()));
+    }
+
+    public void complete(RaidSessionState state) {
+        checkpointLock.lock();
+        try {
+            persistFinish(state);
+        } catch (Exception e) {
+            log.error("Failed to finish raid session {}, will retry", state.getSessionId(), e);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    public boolean fail(RaidSessionState state) {
+        if (!state.finish(RaidSessionState.FAILED)) {
+            return false;
+        }
+        complete(state);
+        return true;
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${raid.checkpoint-interval-ms:1000}")
+    public void checkpointAll() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        checkpointLock.lock();
+        try {
+            List<RaidSessionState> dirty = new ArrayList<>();
+            List<RaidSessionState> finished = new ArrayList<>();
+            for (RaidSessionState state : sessions.values()) {
+                if (!state.isActive()) {
+                    finished.add(state);
+                } else if (state.takeDirty()) {
+                    dirty.add(state);
+                }
+            }
+
+            if (!dirty.isEmpty()) {
+                try {
+                    checkpointTransaction.executeWithoutResult(status -> write(dirty));
+                } catch (Exception e) {
+                    log.error("Failed to checkpoint {} raid sessions, will retry", dirty.size(), e);
+                    dirty.forEach(RaidSessionState::markDirty);
+                }
+            }
+
+            for (RaidSessionState state : finished) {
+                try {
+                    persistFinish(state);
+                } catch (Exception e) {
+                    log.error("Failed to finish raid session {}, will retry", state.getSessionId(), e);
+                }
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void persistFinish(RaidSessionState state) {
+        boolean success = RaidSessionState.COMPLETED.equals(state.getStatus());
+        state.takeDirty();
+        checkpointTransaction.executeWithoutResult(status -> {
+            write(List.of(state));
+            jdbcTemplate.update(FINISH_SESSION_SQL, state.getStatus(), success,
+                    Timestamp.valueOf(LocalDateTime.now()), state.getSessionId());
+            if (success) {
+                jdbcTemplate.update(DEFEAT_BOSS_SQL, state.getRaidBossId());
+            }
+        });
+        sessions.remove(state.getSessionId(), state);
+    }
+
+    private void write(List<RaidSessionState> states) {
+        List<Object[]> sessionBatch = new ArrayList<>(states.size());
+        List<Object[]> participantBatch = new ArrayList<>();
+        for (RaidSessionState state : states) {
+            sessionBatch.add(new Object[] {
+                    state.getCurrentHp(), state.getTotalDamageDealt(), state.getSessionId()
+            });
+            for (RaidSessionState.Participant participant : state.participants()) {
+                participantBatch.add(new Object[] {
+                        participant.getDamageDealt(), participant.getCorrectAnswers(), participant.getParticipantId()
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(CHECKPOINT_SESSION_SQL, sessionBatch);
+        if (!participantBatch.isEmpty()) {
+            jdbcTemplate.batchUpdate(CHECKPOINT_PARTICIPANT_SQL, participantBatch);
+        }
+    }
+}
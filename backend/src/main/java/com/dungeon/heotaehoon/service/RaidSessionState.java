@@ -0,0 +1,149 @@
+package com.dungeon.heotaehoon.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RaidSessionState {
+
+    public static final String IN_PROGRESS = "in_progress";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+
+    private final String sessionId;
+    private final String raidBossId;
+    private final int totalHp;
+    private final LocalDateTime deadline;
+    private final AtomicInteger currentHp;
+    private final LongAdder totalDamageDealt = new LongAdder();
+    private final AtomicReference<String> status = new AtomicReference<>(IN_PROGRESS);
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Map<String, Participant> participants = new ConcurrentHashMap<>();
+
+    public RaidSessionState(String sessionId, String raidBossId, int totalHp, int currentHp,
+                            int totalDamageDealt, LocalDateTime deadline) {
+        this.sessionId = sessionId;
+        this.raidBossId = raidBossId;
+        this.totalHp = totalHp;
+        this.deadline = deadline;
+        this.currentHp = new AtomicInteger(currentHp);
+        this.totalDamageDealt.add(totalDamageDealt);
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getRaidBossId() {
+        return raidBossId;
+    }
+
+    public int getTotalHp() {
+        return totalHp;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public int getCurrentHp() {
+        return currentHp.get();
+    }
+
+    public int getTotalDamageDealt() {
+        return totalDamageDealt.intValue();
+    }
+
+    public String getStatus() {
+        return status.get();
+    }
+
+    public boolean isActive() {
+        return IN_PROGRESS.equals(status.get());
+    }
+
+    public Participant participant(String studentId) {
+        return participants.get(studentId);
+    }
+
+    public Participant addParticipant(String studentId, String participantId, int damageDealt, int correctAnswers) {
+        Participant participant = participants.putIfAbsent(studentId,
+                new Participant(participantId, studentId, damageDealt, correctAnswers));
+        return participant != null ? participant : participants.get(studentId);
+    }
+
+    public Collection<Participant> participants() {
+        return participants.values();
+    }
+
+    public Hit hit(Participant participant, int damage) {
+        int before;
+        int after;
+        do {
+            before = currentHp.get();
+            if (before <= 0 || !isActive()) {
+                return new Hit(0, before, false);
+            }
+            after = Math.max(0, before - damage);
+        } while (!currentHp.compareAndSet(before, after));
+
+        int applied = before - after;
+        totalDamageDealt.add(applied);
+        participant.damageDealt.add(applied);
+        participant.correctAnswers.increment();
+        dirty.set(true);
+
+        boolean defeated = after == 0 && finish(COMPLETED);
+        return new Hit(applied, after, defeated);
+    }
+
+    public boolean finish(String finalStatus) {
+        return status.compareAndSet(IN_PROGRESS, finalStatus);
+    }
+
+    public boolean takeDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    public record Hit(int damage, int currentHp, boolean defeated) {
+    }
+
+    public static class Participant {
+        private final String participantId;
+        private final String studentId;
+        private final LongAdder damageDealt = new LongAdder();
+        private final LongAdder correctAnswers = new LongAdder();
+
+        private Participant(String participantId, String studentId, int damageDealt, int correctAnswers) {
+            this.participantId = participantId;
+            this.studentId = studentId;
+            this.damageDealt.add(damageDealt);
+            this.correctAnswers.add(correctAnswers);
+        }
+
+        public String getParticipantId() {
+            return participantId;
+        }
+
+        public String getStudentId() {
+            return studentId;
+        }
+
+        public int getDamageDealt() {
+            return damageDealt.intValue();
+        }
+
+        public int getCorrectAnswers() {
+            return correctAnswers.intValue();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.entity.Student;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StudentLeaderboardListener {
+
+    private final ObjectProvider<LeaderboardService> leaderboardService;
+    private final ObjectProvider<StudentProgressAccumulator> progressAccumulator;
+
+    public StudentLeaderboardListener(ObjectProvider<LeaderboardService> leaderboardService,
+                                      ObjectProvider<StudentProgressAccumulator> progressAccumulator) {
+        this.leaderboardService = leaderboardService;
+        this.progressAccumulator = progressAccumulator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Student student) {
+        StudentProgressAccumulator accumulator = progressAccumulator.getIfAvailable();
+        leaderboardService.ifAvailable(service ->
+                service.update(() -> accumulator != null ? accumulator.overlay(student) : student));
+    }
+
+    @PostRemove
+    public void onRemove(Student student) {
+        leaderboardService.ifAvailable(service -> service.remove(student.getId()));
+    }
+}
@@ -0,0 +1,428 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+import com.dungeon.heotaehoon.entity.Student;
+import com.dungeon.heotaehoon.repository.StudentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class StudentProgressAccumulator {
+
+    private static final int STRIPES = 64;
+
+    private final StudentRepository studentRepository;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate flushTransaction;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Object[] stripes = createStripes();
+    private final long[] evictions = new long[STRIPES];
+    private final Set<String> flushing = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> purchases = new ConcurrentHashMap<>();
+
+    public StudentProgressAccumulator(StudentRepository studentRepository,
+                                      LeaderboardService leaderboardService,
+                                      PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.leaderboardService = leaderboardService;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Change apply(String studentId, ProgressDelta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return applyCommitted(studentId, delta);
+        }
+
+        TransactionDeltas deltas = (TransactionDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            deltas = new TransactionDeltas();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(deltas);
+        }
+
+        StudentProgress before = deltas.projected.get(studentId);
+        if (before == null) {
+            before = withEntry(studentId, entry -> {
+                entry.pins++;
+                return entry.view;
+            });
+        }
+        StudentProgress after = advance(before, delta);
+        deltas.projected.put(studentId, after);
+        deltas.deltas.add(Map.entry(studentId, delta));
+        return new Change(before, after);
+    }
+
+    private Change applyCommitted(String studentId, ProgressDelta delta) {
+        Change change = withEntry(studentId, entry -> {
+            StudentProgress before = entry.view;
+            StudentProgress after = advance(before, delta);
+            entry.view = after;
+            entry.pending.exp += delta.getExp();
+            entry.pending.points += delta.getPoints();
+            entry.pending.correct += delta.getCorrect();
+            entry.pending.wrong += delta.getWrong();
+            entry.pending.mental += after.getMentalGauge() - before.getMentalGauge();
+            return new Change(before, after);
+        });
+
+        leaderboardService.applyProgress(change.after());
+        return change;
+    }
+
+    public Change addExp(String studentId, int amount) {
+        return apply(studentId, ProgressDelta.builder().exp(amount).build());
+    }
+
+    public Change addPoints(String studentId, int amount) {
+        return apply(studentId, ProgressDelta.builder().points(amount).build());
+    }
+
+    public Change adjustMental(String studentId, int amount) {
+        return apply(studentId, ProgressDelta.builder().mental(amount).build());
+    }
+
+    public Optional<StudentProgress> spendPoints(String studentId, int amount) {
+        PointPurchase purchase = new PointPurchase(studentId, amount);
+        synchronized (stripeFor(studentId)) {
+            purchases.merge(studentId, 1, Integer::sum);
+        }
+        boolean deferred = TransactionSynchronizationManager.isSynchronizationActive();
+        if (deferred) {
+            TransactionSynchronizationManager.registerSynchronization(purchase);
+        }
+
+        Optional<StudentProgress> spent;
+        try {
+            flush(List.of(studentId), true);
+            spent = studentRepository.spendPoints(studentId, amount);
+        } catch (RuntimeException e) {
+            if (!deferred) {
+                purchase.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            throw e;
+        }
+
+        purchase.spent = spent.orElse(null);
+        if (!deferred) {
+            purchase.afterCommit();
+            purchase.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        return spent;
+    }
+
+    public Student overlay(Student student) {
+        Entry entry = entries.get(student.getId());
+        if (entry == null) {
+            return student;
+        }
+        synchronized (stripeFor(student.getId())) {
+            return withProgress(student, entry.view);
+        }
+    }
+
+    public Student withProgress(Student student, StudentProgress progress) {
+        return student.toBuilder()
+                .level(progress.getLevel())
+                .exp(progress.getExp())
+                .points(progress.getPoints())
+                .totalCorrect(progress.getTotalCorrect())
+                .totalWrong(progress.getTotalWrong())
+                .mentalGauge(progress.getMentalGauge())
+                .build();
+    }
+
+    public void flush(String studentId) {
+        if (entries.containsKey(studentId)) {
+            flush(List.of(studentId), true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${student.progress.flush-interval-ms:500}")
+    public void flushAll() {
+        if (!entries.isEmpty()) {
+            flush(new ArrayList<>(entries.keySet()), false);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!entries.isEmpty()) {
+            flush(new ArrayList<>(entries.keySet()), true);
+        }
+    }
+
+    private void flush(Collection<String> studentIds, boolean waitForInFlight) {
+        List<String> drainedIds = new ArrayList<>();
+        List<Pending> drained = new ArrayList<>();
+
+        for (String studentId : studentIds) {
+            Object stripe = stripeFor(studentId);
+            synchronized (stripe) {
+                if (waitForInFlight) {
+                    awaitFlushed(stripe, studentId);
+                } else if (flushing.contains(studentId) || purchases.containsKey(studentId)) {
+                    continue;
+                }
+                Entry entry = entries.get(studentId);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.pending.isEmpty()) {
+                    if (entry.pins == 0) {
+                        evict(studentId);
+                    }
+                    continue;
+                }
+                drainedIds.add(studentId);
+                drained.add(entry.pending);
+                entry.pending = new Pending();
+                flushing.add(studentId);
+            }
+        }
+
+        if (drainedIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, ProgressDelta> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < drainedIds.size(); i++) {
+            deltas.put(drainedIds.get(i), drained.get(i).toDelta());
+        }
+
+        boolean flushed = false;
+        try {
+            List<String> missing = flushTransaction.execute(status -> studentRepository.incrementProgress(deltas));
+            if (missing != null) {
+                missing.forEach(studentId -> log.warn("Dropping progress for missing student: {}", studentId));
+            }
+            flushed = true;
+        } catch (Exception e) {
+            log.error("Failed to flush progress for {} students, will retry", drainedIds.size(), e);
+        } finally {
+            for (int i = 0; i < drainedIds.size(); i++) {
+                String studentId = drainedIds.get(i);
+                Object stripe = stripeFor(studentId);
+                synchronized (stripe) {
+                    flushing.remove(studentId);
+                    Entry entry = entries.get(studentId);
+                    if (entry != null) {
+                        if (!flushed) {
+                            entry.pending.add(drained.get(i));
+                        } else if (entry.pending.isEmpty() && entry.pins == 0) {
+                            evict(studentId);
+                        }
+                    }
+                    stripe.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void awaitFlushed(Object stripe, String studentId) {
+        try {
+            while (flushing.contains(studentId)) {
+                stripe.wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("진행도 저장 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private void applySpend(String studentId, int amount, StudentProgress spent) {
+        StudentProgress view = spent;
+        synchronized (stripeFor(studentId)) {
+            Entry entry = entries.get(studentId);
+            if (entry != null) {
+                entry.view = entry.view.toBuilder().points(entry.view.getPoints() - amount).build();
+                view = entry.view;
+            }
+        }
+        leaderboardService.applyProgress(view);
+    }
+
+    private void endPurchase(String studentId) {
+        synchronized (stripeFor(studentId)) {
+            purchases.computeIfPresent(studentId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private <T> T withEntry(String studentId, Function<Entry, T> action) {
+        Object stripe = stripeFor(studentId);
+        int index = stripeIndex(studentId);
+        while (true) {
+            long evicted;
+            synchronized (stripe) {
+                Entry entry = entries.get(studentId);
+                if (entry != null) {
+                    return action.apply(entry);
+                }
+                evicted = evictions[index];
+            }
+            StudentProgress progress = studentRepository.findProgressById(studentId)
+                    .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
+            synchronized (stripe) {
+                if (evictions[index] == evicted) {
+                    entries.putIfAbsent(studentId, new Entry(progress));
+                }
+            }
+        }
+    }
+
+    private void evict(String studentId) {
+        entries.remove(studentId);
+        evictions[stripeIndex(studentId)]++;
+    }
+
+    private StudentProgress advance(StudentProgress progress, ProgressDelta delta) {
+        return progress.toBuilder()
+                .level(LevelCurve.levelAfter(progress.getLevel(), progress.getExp(), delta.getExp()))
+                .exp(LevelCurve.expAfter(progress.getLevel(), progress.getExp(), delta.getExp()))
+                .points(progress.getPoints() + delta.getPoints())
+                .totalCorrect(progress.getTotalCorrect() + delta.getCorrect())
+                .totalWrong(progress.getTotalWrong() + delta.getWrong())
+                .mentalGauge(Math.max(0, Math.min(100, progress.getMentalGauge() + delta.getMental())))
+                .build();
+    }
+
+    private Object stripeFor(String studentId) {
+        return stripes[stripeIndex(studentId)];
+    }
+
+    private static int stripeIndex(String studentId) {
+        return (studentId.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private static Object[] createStripes() {
+        Object[] stripes = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    public record Change(StudentProgress before, StudentProgress after) {
+
+        public boolean leveledUp() {
+            return after.getLevel() > before.getLevel();
+        }
+    }
+
+    private class TransactionDeltas implements TransactionSynchronization {
+        private final Map<String, StudentProgress> projected = new HashMap<>();
+        private final List<Map.Entry<String, ProgressDelta>> deltas = new ArrayList<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StudentProgressAccumulator.this);
+            if (status != STATUS_COMMITTED) {
+                log.debug("Discarding {} progress deltas from a rolled back transaction", deltas.size());
+                unpin();
+                return;
+            }
+            try {
+                for (Map.Entry<String, ProgressDelta> delta : deltas) {
+                    try {
+                        applyCommitted(delta.getKey(), delta.getValue());
+                    } catch (RuntimeException e) {
+                        log.error("Failed to apply committed progress for student {}", delta.getKey(), e);
+                    }
+                }
+            } finally {
+                unpin();
+            }
+        }
+
+        private void unpin() {
+            for (String studentId : projected.keySet()) {
+                synchronized (stripeFor(studentId)) {
+                    Entry entry = entries.get(studentId);
+                    if (entry != null) {
+                        entry.pins--;
+                    }
+                }
+            }
+        }
+    }
+
+    private class PointPurchase implements TransactionSynchronization {
+        private final String studentId;
+        private final int amount;
+        private StudentProgress spent;
+
+        private PointPurchase(String studentId, int amount) {
+            this.studentId = studentId;
+            this.amount = amount;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (spent != null) {
+                applySpend(studentId, amount, spent);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            endPurchase(studentId);
+        }
+    }
+
+    private static class Entry {
+        private StudentProgress view;
+        private Pending pending = new Pending();
+        private int pins;
+
+        private Entry(StudentProgress view) {
+            this.view = view;
+        }
+    }
+
+    private static class Pending {
+        private int exp;
+        private int points;
+        private int correct;
+        private int wrong;
+        private int mental;
+
+        private boolean isEmpty() {
+            return exp == 0 && points == 0 && correct == 0 && wrong == 0 && mental == 0;
+        }
+
+        private void add(Pending other) {
+            exp += other.exp;
+            points += other.points;
+            correct += other.correct;
+            wrong += other.wrong;
+            mental += other.mental;
+        }
+
+        private ProgressDelta toDelta() {
+            return new ProgressDelta(exp, points, correct, wrong, mental);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.RankedStudent;
 import com.dungeon.heotaehoon.entity.Student;
 import com.dungeon.heotaehoon.entity.StudentGroup;
 import com.dungeon.heotaehoon.repository.StudentRepository;
@@ -14,8 +16,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.Comparator;
-import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
@@ -23,14 +23,21 @@ import java.util.UUID;
 public class StudentService {
     private final StudentRepository studentRepository;
     private final StudentGroupRepository groupRepository;
+    private final LeaderboardService leaderboardService;
+    private final StudentProgressAccumulator progressAccumulator;
 
     public Student getStudentById(String id) {
-        return studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
+        return progressAccumulator.overlay(findStudent(id));
     }
 
     public Student getStudentByUsername(String username) {
         return studentRepository.findByUsername(username)
+                .map(progressAccumulator::overlay)
+                .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
+    }
+
+    private Student findStudent(String id) {
+        return studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("학생을 찾을 수 없습니다"));
     }
 
@@ -81,7 +88,7 @@ public class StudentService {
         }
 
         student.setIsProfileComplete(true);
-        return studentRepository.save(student);
+        return progressAccumulator.overlay(studentRepository.save(student));
     }
 
     public Map<String, Object> getMyPageData(String studentId) {
@@ -98,7 +105,7 @@ public class StudentService {
 
     @Transactional
     public Student updateProfile(String studentId, String displayName, String birthDate, String phoneNumber, String studentIdNumber) {
-        Student student = getStudentById(studentId);
+        Student student = findStudent(studentId);
 
         if (displayName != null && !displayName.isEmpty()) {
             student.setDisplayName(displayName);
@@ -123,69 +130,43 @@ public class StudentService {
             student.setStudentIdNumber(studentIdNumber);
         }
 
-        return studentRepository.save(student);
+        return progressAccumulator.overlay(studentRepository.save(student));
     }
 
     @Transactional
     public Student changeExpression(String studentId, String expression) {
-        Student student = getStudentById(studentId);
+        Student student = findStudent(studentId);
         student.setCharacterExpression(expression);
-        return studentRepository.save(student);
+        return progressAccumulator.overlay(studentRepository.save(student));
     }
 
-    @Transactional
     public Map<String, Object> addExp(String studentId, int expAmount) {
-        Student student = getStudentById(studentId);
-        
-        int oldLevel = student.getLevel();
-        int oldExp = student.getExp();
-        
-        student.setExp(oldExp + expAmount);
-        
-        int newLevel = oldLevel;
-        boolean leveledUp = false;
-        
-        while (student.getExp() >= 100) {
-            student.setExp(student.getExp() - 100);
-            newLevel++;
-            leveledUp = true;
-        }
-        
-        if (leveledUp) {
-            student.setLevel(newLevel);
-        }
-        
-        studentRepository.save(student);
+        Student student = findStudent(studentId);
+        StudentProgressAccumulator.Change change = progressAccumulator.addExp(studentId, expAmount);
         
         Map<String, Object> result = new HashMap<>();
-        result.put("student", student);
-        result.put("leveledUp", leveledUp);
-        result.put("oldLevel", oldLevel);
-        result.put("newLevel", newLevel);
+        result.put("student", progressAccumulator.withProgress(student, change.after()));
+        result.put("leveledUp", change.leveledUp());
+        result.put("oldLevel", change.before().getLevel());
+        result.put("newLevel", change.after().getLevel());
         result.put("expGained", expAmount);
         
         return result;
     }
 
-    @Transactional
     public Student addPoints(String studentId, int pointsAmount) {
-        Student student = getStudentById(studentId);
-        int currentPoints = student.getPoints() != null ? student.getPoints() : 0;
-        student.setPoints(currentPoints + pointsAmount);
-        return studentRepository.save(student);
+        Student student = findStudent(studentId);
+        StudentProgressAccumulator.Change change = progressAccumulator.addPoints(studentId, pointsAmount);
+        return progressAccumulator.withProgress(student, change.after());
     }
 
-    @Transactional
     public Student updateQuizStats(String studentId, boolean isCorrect) {
-        Student student = getStudentById(studentId);
-        
-        if (isCorrect) {
-            student.setTotalCorrect(student.getTotalCorrect() + 1);
-        } else {
-            student.setTotalWrong(student.getTotalWrong() + 1);
-        }
-        
-        return studentRepository.save(student);
+        Student student = findStudent(studentId);
+        ProgressDelta delta = isCorrect
+            ? ProgressDelta.builder().correct(1).build()
+            : ProgressDelta.builder().wrong(1).build();
+        StudentProgressAccumulator.Change change = progressAccumulator.apply(studentId, delta);
+        return progressAccumulator.withProgress(student, change.after());
     }
 
     public List<Student> getTopStudents() {
@@ -212,31 +193,24 @@ public class StudentService {
         return stats;
     }
 
-    @Transactional
     public Student updateMentalGauge(String studentId, int amount) {
-        Student student = getStudentById(studentId);
-        
-        int newMental = Math.max(0, Math.min(100, student.getMentalGauge() + amount));
-        student.setMentalGauge(newMental);
-        
-        return studentRepository.save(student);
+        Student student = findStudent(studentId);
+        StudentProgressAccumulator.Change change = progressAccumulator.adjustMental(studentId, amount);
+        return progressAccumulator.withProgress(student, change.after());
     }
 
-    @Transactional
     public Map<String, Object> reduceMental(String studentId, int amount) {
-        Student student = getStudentById(studentId);
+        Student student = findStudent(studentId);
+        StudentProgressAccumulator.Change change = progressAccumulator.adjustMental(studentId, -amount);
         
-        int oldMental = student.getMentalGauge();
-        int newMental = Math.max(0, oldMental - amount);
-        student.setMentalGauge(newMental);
+        int oldMental = change.before().getMentalGauge();
+        int newMental = change.after().getMentalGauge();
         
         boolean needsRecovery = newMental < 30;
         String mentalStatus = getMentalStatus(newMental);
         
-        studentRepository.save(student);
-        
         Map<String, Object> result = new HashMap<>();
-        result.put("student", student);
+        result.put("student", progressAccumulator.withProgress(student, change.after()));
         result.put("oldMental", oldMental);
         result.put("newMental", newMental);
         result.put("needsRecovery", needsRecovery);
@@ -245,20 +219,17 @@ public class StudentService {
         return result;
     }
 
-    @Transactional
     public Map<String, Object> recoverMental(String studentId, int amount) {
-        Student student = getStudentById(studentId);
+        Student student = findStudent(studentId);
+        StudentProgressAccumulator.Change change = progressAccumulator.adjustMental(studentId, amount);
         
-        int oldMental = student.getMentalGauge();
-        int newMental = Math.min(100, oldMental + amount);
-        student.setMentalGauge(newMental);
+        int oldMental = change.before().getMentalGauge();
+        int newMental = change.after().getMentalGauge();
         
         String mentalStatus = getMentalStatus(newMental);
         
-        studentRepository.save(student);
-        
         Map<String, Object> result = new HashMap<>();
-        result.put("student", student);
+        result.put("student", progressAccumulator.withProgress(student, change.after()));
         result.put("oldMental", oldMental);
         result.put("newMental", newMental);
         result.put("recovered", amount);
@@ -282,69 +253,58 @@ public class StudentService {
     }
     
     public Map<String, Object> getRanking(String sortBy, int limit) {
-        List<Student> allStudents = studentRepository.findAll();
-        
-        List<Student> rankedStudents;
-        
-        switch (sortBy) {
-            case "correctRate":
-                rankedStudents = allStudents.stream()
-                    .filter(s -> (s.getTotalCorrect() + s.getTotalWrong()) > 0)
-                    .sorted(Comparator.comparingDouble((Student s) -> {
-                        int total = s.getTotalCorrect() + s.getTotalWrong();
-                        return total > 0 ? (double) s.getTotalCorrect() / total : 0;
-                    }).reversed())
-                    .limit(limit)
-                    .collect(Collectors.toList());
-                break;
-            
-            case "level":
-                rankedStudents = allStudents.stream()
-                    .sorted(Comparator.comparingInt(Student::getLevel).reversed()
-                        .thenComparingInt(Student::getExp).reversed())
-                    .limit(limit)
-                    .collect(Collectors.toList());
-                break;
-            
-            case "points":
-            default:
-                rankedStudents = allStudents.stream()
-                    .sorted(Comparator.comparingInt(Student::getPoints).reversed())
-                    .limit(limit)
-                    .collect(Collectors.toList());
-                break;
-        }
+        List<RankedStudent> rankedStudents = leaderboardService.top(sortBy, limit);
         
         List<Map<String, Object>> rankingList = new ArrayList<>();
         
         for (int i = 0; i < rankedStudents.size(); i++) {
-            Student student = rankedStudents.get(i);
-            Map<String, Object> studentData = new HashMap<>();
-            
+            Map<String, Object> studentData = toRankingData(rankedStudents.get(i));
             studentData.put("rank", i + 1);
-            studentData.put("id", student.getId());
-            studentData.put("displayName", student.getDisplayName());
-            studentData.put("level", student.getLevel());
-            studentData.put("exp", student.getExp());
-            studentData.put("points", student.getPoints());
-            studentData.put("totalCorrect", student.getTotalCorrect());
-            studentData.put("totalWrong", student.getTotalWrong());
-            
-            int total = student.getTotalCorrect() + student.getTotalWrong();
-            double correctRate = total > 0 ? (double) student.getTotalCorrect() / total * 100 : 0;
-            studentData.put("correctRate", Math.round(correctRate * 10) / 10.0);
-            
-            boolean hasBadge = correctRate >= 80 && student.getTotalCorrect() >= 50;
-            studentData.put("hasRageResistanceBadge", hasBadge);
-            
             rankingList.add(studentData);
         }
         
         Map<String, Object> result = new HashMap<>();
         result.put("ranking", rankingList);
         result.put("sortBy", sortBy);
-        result.put("total", allStudents.size());
+        result.put("total", leaderboardService.totalCount());
         
         return result;
     }
+
+    public Map<String, Object> getMyRank(String studentId, String sortBy) {
+        RankedStudent student = leaderboardService.find(studentId);
+        if (student == null) {
+            throw new RuntimeException("학생을 찾을 수 없습니다");
+        }
+        
+        int rank = leaderboardService.rankOf(sortBy, studentId);
+        
+        Map<String, Object> result = toRankingData(student);
+        result.put("rank", rank > 0 ? rank : null);
+        result.put("sortBy", sortBy);
+        result.put("rankedCount", leaderboardService.rankedCount(sortBy));
+        
+        return result;
+    }
+
+    private Map<String, Object> toRankingData(RankedStudent student) {
+        Map<String, Object> studentData = new HashMap<>();
+        
+        studentData.put("id", student.getId());
+        studentData.put("displayName", student.getDisplayName());
+        studentData.put("level", student.getLevel());
+        studentData.put("exp", student.getExp());
+        studentData.put("points", student.getPoints());
+        studentData.put("totalCorrect", student.getTotalCorrect());
+        studentData.put("totalWrong", student.getTotalWrong());
+        
+        int total = student.getTotalCorrect() + student.getTotalWrong();
+        double correctRate = total > 0 ? (double) student.getTotalCorrect() / total * 100 : 0;
+        studentData.put("correctRate", Math.round(correctRate * 10) / 10.0);
+        
+        boolean hasBadge = correctRate >= 80 && student.getTotalCorrect() >= 50;
+        studentData.put("hasRageResistanceBadge", hasBadge);
+        
+        return studentData;
+    }
 }
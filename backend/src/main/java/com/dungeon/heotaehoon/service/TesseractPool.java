@@ -0,0 +1,247 @@
+package com.dungeon.heotaehoon.service;
+
+import com.sun.jna.Pointer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITessAPI;
+import net.sourceforge.tess4j.TessAPI;
+import net.sourceforge.tess4j.util.ImageIOHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class TesseractPool {
+
+    private final String datapath;
+    private final String language;
+    private final int size;
+    private final long leaseTimeoutMs;
+    private final int maxUses;
+    private final boolean warmUp;
+
+    private final BlockingQueue<Engine> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder initialized = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder leaseNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator maxLeaseNanos = new LongAccumulator(Long::max, 0);
+
+    public TesseractPool(@Value("${ocr.tessdata-path:/usr/share/tessdata}") String datapath,
+                         @Value("${ocr.language:kor+eng}") String language,
+                         @Value("${ocr.pool.size:0}") int size,
+                         @Value("${ocr.pool.lease-timeout-ms:30000}") long leaseTimeoutMs,
+                         @Value("${ocr.pool.max-uses:200}") int maxUses,
+                         @Value("${ocr.pool.warm-up:true}") boolean warmUp) {
+        this.datapath = datapath;
+        this.language = language;
+        this.size = size > 0 ? size : Runtime.getRuntime().availableProcessors();
+        this.leaseTimeoutMs = leaseTimeoutMs;
+        this.maxUses = maxUses;
+        this.warmUp = warmUp;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        Thread warmer = new Thread(() -> {
+            try {
+                while (!closed && reserve()) {
+                    idle.offer(new Engine());
+                }
+                log.info("Tesseract pool warmed up: {} engines ({}, {})", created.get(), language, datapath);
+            } catch (RuntimeException | LinkageError e) {
+                created.decrementAndGet();
+                log.warn("Tesseract warm-up failed: {}", e.getMessage());
+            }
+        }, "tesseract-warmup");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    public String recognize(BufferedImage image, int dpi) {
+        long requested = System.nanoTime();
+        Engine engine = lease();
+        long leased = System.nanoTime();
+        record(queueNanos, maxQueueNanos, leased - requested);
+
+        boolean healthy = false;
+        try {
+            String text = engine.recognize(image, dpi);
+            healthy = true;
+            return text;
+        } finally {
+            record(leaseNanos, maxLeaseNanos, System.nanoTime() - leased);
+            release(engine, healthy);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long leaseCount = leases.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size);
+        stats.put("created", created.get());
+        stats.put("idle", idle.size());
+        stats.put("leases", leaseCount);
+        stats.put("timeouts", timeouts.sum());
+        stats.put("recycled", recycled.sum());
+        stats.put("initialized", initialized.sum());
+        stats.put("avgQueueMs", leaseCount > 0 ? queueNanos.sum() / leaseCount / 1_000_000.0 : 0.0);
+        stats.put("maxQueueMs", maxQueueNanos.get() / 1_000_000.0);
+        stats.put("avgLeaseMs", leaseCount > 0 ? leaseNanos.sum() / leaseCount / 1_000_000.0 : 0.0);
+        stats.put("maxLeaseMs", maxLeaseNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        Engine engine;
+        while ((engine = idle.poll()) != null) {
+            engine.close();
+        }
+    }
+
+    private Engine lease() {
+        if (closed) {
+            throw new RuntimeException("OCR 엔진 풀이 종료되었습니다");
+        }
+        Engine engine = idle.poll();
+        if (engine == null && reserve()) {
+            try {
+                engine = new Engine();
+            } catch (RuntimeException | LinkageError e) {
+                created.decrementAndGet();
+                throw new RuntimeException("Tesseract 초기화 실패: " + e.getMessage(), e);
+            }
+        }
+        if (engine == null) {
+            try {
+                engine = idle.poll(leaseTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("OCR 엔진 대기 중 중단되었습니다", e);
+            }
+        }
+        if (engine == null) {
+            timeouts.increment();
+            throw new RuntimeException("OCR 엔진이 모두 사용 중입니다. 잠시 후 다시 시도하세요");
+        }
+        leases.increment();
+        return engine;
+    }
+
+    private void release(Engine engine, boolean healthy) {
+        if (!closed && healthy && engine.uses < maxUses) {
+            idle.offer(engine);
+            return;
+        }
+        engine.close();
+        created.decrementAndGet();
+        if (closed) {
+            return;
+        }
+        recycled.increment();
+        if (reserve()) {
+            try {
+                idle.offer(new Engine());
+            } catch (RuntimeException | LinkageError e) {
+                created.decrementAndGet();
+                log.warn("Tesseract engine replacement failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = created.get();
+            if (current >= size) {
+                return false;
+            }
+            if (created.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    private class Engine {
+
+        private final TessAPI api = TessAPI.INSTANCE;
+        private final ITessAPI.TessBaseAPI handle;
+        private int uses;
+
+        Engine() {
+            handle = api.TessBaseAPICreate();
+            if (api.TessBaseAPIInit3(handle, datapath, language) != 0) {
+                api.TessBaseAPIDelete(handle);
+                throw new RuntimeException("Tesseract 초기화 실패: " + datapath + " (" + language + ")");
+            }
+            initialized.increment();
+        }
+
+        String recognize(BufferedImage image, int dpi) {
+            uses++;
+            BufferedImage gray = toGray(image);
+            ByteBuffer pixels = ImageIOHelper.convertImageData(gray);
+            api.TessBaseAPISetImage(handle, pixels, gray.getWidth(), gray.getHeight(), 1, gray.getWidth());
+            if (dpi > 0) {
+                api.TessBaseAPISetSourceResolution(handle, dpi);
+            }
+            Pointer text = api.TessBaseAPIGetUTF8Text(handle);
+            try {
+                return text != null ? text.getString(0, "UTF-8") : "";
+            } finally {
+                if (text != null) {
+                    api.TessDeleteText(text);
+                }
+                api.TessBaseAPIClear(handle);
+            }
+        }
+
+        void close() {
+            api.TessBaseAPIEnd(handle);
+            api.TessBaseAPIDelete(handle);
+        }
+
+        private BufferedImage toGray(BufferedImage image) {
+            if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+                return image;
+            }
+            BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+            Graphics2D graphics = gray.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, null);
+            } finally {
+                graphics.dispose();
+            }
+            return gray;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
+import com.dungeon.heotaehoon.entity.Student;
+import com.dungeon.heotaehoon.entity.Worksheet;
+import com.dungeon.heotaehoon.entity.WorksheetQuestion;
+import com.dungeon.heotaehoon.repository.StudentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+@Service
+public class WorksheetExportService {
+
+    private final WorksheetService worksheetService;
+    private final WorksheetPdfRenderer worksheetPdfRenderer;
+    private final StudentRepository studentRepository;
+    private final ExecutorService exportExecutor;
+    private final int window;
+
+    public WorksheetExportService(WorksheetService worksheetService,
+                                  WorksheetPdfRenderer worksheetPdfRenderer,
+                                  StudentRepository studentRepository,
+                                  @Value("${worksheet.export.workers:0}") int workers,
+                                  @Value("${worksheet.export.max-in-flight:0}") int maxInFlight) {
+        this.worksheetService = worksheetService;
+        this.worksheetPdfRenderer = worksheetPdfRenderer;
+        this.studentRepository = studentRepository;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.window = maxInFlight > 0 ? maxInFlight : threads * 2;
+        AtomicInteger counter = new AtomicInteger();
+        this.exportExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "worksheet-export-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        exportExecutor.shutdownNow();
+    }
+
+    public List<Document> plan(List<Worksheet> worksheets, String personalizedGroupId) {
+        List<Student> students = personalizedGroupId != null
+                ? studentRepository.findByGroup_Id(personalizedGroupId)
+                : List.of();
+        List<Document> documents = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Worksheet worksheet : worksheets) {
+            QuestionSetVersion questionSet = worksheetService.getQuestionSetVersion(worksheet.getId());
+            List<WorksheetQuestion> questions = worksheetService.getQuestionsByWorksheetId(worksheet.getId());
+            if (students.isEmpty()) {
+                documents.add(new Document(entryName(names, worksheet.getTitle()), worksheet, questionSet, questions, null));
+                continue;
+            }
+            for (Student student : students) {
+                String studentName = student.getDisplayName() != null ? student.getDisplayName() : student.getUsername();
+                documents.add(new Document(entryName(names, worksheet.getTitle() + "_" + studentName),
+                        worksheet, questionSet, questions, studentName));
+            }
+        }
+        return documents;
+    }
+
+    public void writeZip(List<Document> documents, OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        CompletionService<Rendered> completion = new ExecutorCompletionService<>(exportExecutor);
+        List<Future<Rendered>> pending = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        Iterator<Document> queue = documents.iterator();
+        int inFlight = 0;
+        int written = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.BEST_SPEED);
+        try {
+            while (inFlight < window && queue.hasNext()) {
+                pending.add(completion.submit(renderTask(queue.next())));
+                inFlight++;
+            }
+            while (inFlight > 0) {
+                Future<Rendered> done = completion.take();
+                inFlight--;
+                if (queue.hasNext()) {
+                    pending.add(completion.submit(renderTask(queue.next())));
+                    inFlight++;
+                }
+
+                try {
+                    Rendered rendered = done.get();
+                    if (rendered.error() != null) {
+                        failures.add(rendered.name() + ": " + rendered.error());
+                        continue;
+                    }
+                    zip.putNextEntry(new ZipEntry(rendered.name()));
+                    zip.write(rendered.pdf());
+                    zip.closeEntry();
+                    written++;
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause().getMessage());
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("export-errors.txt"));
+                zip.write(String.join("\n", failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("문제지 내보내기가 중단되었습니다", e);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("Exported {} worksheet PDFs ({} failed) in {}s, {} docs/s",
+                written, failures.size(), String.format("%.2f", seconds),
+                String.format("%.1f", seconds > 0 ? written / seconds : written));
+    }
+
+    private Callable<Rendered> renderTask(Document document) {
+        return () -> {
+            try {
+                ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+                if (document.studentName() != null) {
+                    worksheetPdfRenderer.render(document.worksheet(), document.questions(), document.studentName(), pdf);
+                    return new Rendered(document.name(), pdf.toByteArray(), null);
+                }
+                Optional<byte[]> cached = worksheetPdfRenderer.cached(document.worksheet(), document.questionSet());
+                if (cached.isPresent()) {
+                    return new Rendered(document.name(), cached.get(), null);
+                }
+                worksheetPdfRenderer.renderAndCache(document.worksheet(), document.questionSet(), document.questions(), pdf);
+                return new Rendered(document.name(), pdf.toByteArray(), null);
+            } catch (Exception e) {
+                log.warn("Failed to render worksheet {} for export", document.worksheet().getId(), e);
+                return new Rendered(document.name(), null, e.getMessage());
+            }
+        };
+    }
+
+    private static String entryName(Set<String> names, String base) {
+        String safe = base == null || base.isBlank() ? "worksheet" : base.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").trim();
+        String name = safe + ".pdf";
+        for (int i = 2; !names.add(name); i++) {
+            name = safe + " (" + i + ").pdf";
+        }
+        return name;
+    }
+
+    public record Document(String name, Worksheet worksheet, QuestionSetVersion questionSet,
+                           List<WorksheetQuestion> questions, String studentName) {
+    }
+
+    private record Rendered(String name, byte[] pdf, String error) {
+    }
+}
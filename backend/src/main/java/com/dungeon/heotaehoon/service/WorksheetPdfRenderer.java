@@ -0,0 +1,280 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
+import com.dungeon.heotaehoon.entity.Worksheet;
+import com.dungeon.heotaehoon.entity.WorksheetQuestion;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class WorksheetPdfRenderer {
+
+    private static final String FONT_PATH = "fonts/NanumGothic.ttf";
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private volatile TrueTypeFont font;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public WorksheetPdfRenderer(@Value("${worksheet.pdf.cache.max-bytes:33554432}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public Optional<byte[]> cached(Worksheet worksheet, QuestionSetVersion questionSet) {
+        String version = version(worksheet, questionSet);
+        synchronized (entries) {
+            Entry entry = entries.get(worksheet.getId());
+            if (entry != null && entry.version().equals(version)) {
+                hits.increment();
+                return Optional.of(entry.pdf());
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void renderAndCache(Worksheet worksheet, QuestionSetVersion questionSet,
+                               List<WorksheetQuestion> questions, OutputStream output) throws IOException {
+        CapturingOutputStream capture = new CapturingOutputStream(output, maxBytes);
+        render(worksheet, questions, capture);
+        byte[] pdf = capture.captured();
+        if (pdf != null) {
+            remember(worksheet.getId(), new Entry(version(worksheet, questionSet), pdf));
+        }
+    }
+
+    public void render(Worksheet worksheet, List<WorksheetQuestion> questions, OutputStream output) throws IOException {
+        render(worksheet, questions, null, output);
+    }
+
+    public void render(Worksheet worksheet, List<WorksheetQuestion> questions, String studentName,
+                       OutputStream output) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            
+            PDPageContentStream contentStream = new PDPageContentStream(document, page);
+            
+            float margin = 50;
+            float yPosition = page.getMediaBox().getHeight() - margin;
+            float leading = 15f;
+            
+            PDType0Font font = PDType0Font.load(document, font(), true);
+            
+            contentStream.beginText();
+            contentStream.setFont(font, 18);
+            contentStream.newLineAtOffset(margin, yPosition);
+            contentStream.showText(worksheet.getTitle());
+            contentStream.endText();
+            
+            yPosition -= 30;
+            
+            if (worksheet.getDescription() != null && !worksheet.getDescription().isEmpty()) {
+                contentStream.beginText();
+                contentStream.setFont(font, 11);
+                contentStream.newLineAtOffset(margin, yPosition);
+                contentStream.showText(worksheet.getDescription());
+                contentStream.endText();
+                yPosition -= 25;
+            }
+            
+            String categoryText = "카테고리: " + (worksheet.getCategory() != null ? worksheet.getCategory() : "기타");
+            contentStream.beginText();
+            contentStream.setFont(font, 10);
+            contentStream.newLineAtOffset(margin, yPosition);
+            contentStream.showText(categoryText);
+            contentStream.endText();
+            
+            if (studentName != null) {
+                yPosition -= 18;
+                contentStream.beginText();
+                contentStream.setFont(font, 11);
+                contentStream.newLineAtOffset(margin, yPosition);
+                contentStream.showText("이름: " + studentName);
+                contentStream.endText();
+            }
+            
+            yPosition -= 40;
+            
+            for (WorksheetQuestion q : questions) {
+                if (yPosition < margin + 150) {
+                    contentStream.close();
+                    page = new PDPage(PDRectangle.A4);
+                    document.addPage(page);
+                    contentStream = new PDPageContentStream(document, page);
+                    yPosition = page.getMediaBox().getHeight() - margin;
+                }
+                
+                String questionText = q.getQuestionNumber() + ". " + q.getQuestionText();
+                contentStream.beginText();
+                contentStream.setFont(font, 12);
+                contentStream.newLineAtOffset(margin, yPosition);
+                contentStream.showText(questionText);
+                contentStream.endText();
+                
+                yPosition -= 25;
+                
+                if ("multiple_choice".equals(q.getQuestionType())) {
+                    contentStream.setFont(font, 11);
+                    
+                    String[] options = {q.getOptionA(), q.getOptionB(), q.getOptionC(), q.getOptionD()};
+                    for (int i = 0; i < options.length; i++) {
+                        if (options[i] != null) {
+                            contentStream.beginText();
+                            contentStream.newLineAtOffset(margin + 20, yPosition);
+                            contentStream.showText((i + 1) + ") " + options[i]);
+                            contentStream.endText();
+                            yPosition -= leading;
+                        }
+                    }
+                }
+                
+                yPosition -= 25;
+            }
+            
+            contentStream.close();
+            
+            document.save(new CapturingOutputStream(output, 0));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+            stats.put("usedBytes", usedBytes);
+        }
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("fontLoaded", font != null);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (font != null) {
+            font.close();
+        }
+    }
+
+    private TrueTypeFont font() throws IOException {
+        TrueTypeFont loaded = font;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = font;
+                if (loaded == null) {
+                    try (InputStream fontStream = new ClassPathResource(FONT_PATH).getInputStream()) {
+                        loaded = new TTFParser().parse(fontStream);
+                    }
+                    font = loaded;
+                    log.info("Loaded worksheet font {}", FONT_PATH);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private void remember(String worksheetId, Entry entry) {
+        long size = entry.pdf().length;
+        synchronized (entries) {
+            Entry previous = entries.put(worksheetId, entry);
+            if (previous != null) {
+                usedBytes -= previous.pdf().length;
+            }
+            usedBytes += size;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> victim = eldest.next();
+                if (victim.getKey().equals(worksheetId)) {
+                    continue;
+                }
+                usedBytes -= victim.getValue().pdf().length;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static String version(Worksheet worksheet, QuestionSetVersion questionSet) {
+        return worksheet.getUpdatedAt() + "|" + questionSet.getQuestionCount() + "|" + questionSet.getLastUpdated();
+    }
+
+    private record Entry(String version, byte[] pdf) {
+    }
+
+    private static class CapturingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream copy;
+
+        CapturingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+            this.copy = limit > 0 ? new ByteArrayOutputStream() : null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (copy != null) {
+                capture(new byte[] {(byte) b}, 0, 1);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) {
+                capture(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        byte[] captured() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+
+        private void capture(byte[] b, int off, int len) {
+            if (copy.size() + (long) len > limit) {
+                copy = null;
+            } else {
+                copy.write(b, off, len);
+            }
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.dungeon.heotaehoon.service;
 
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
+import com.dungeon.heotaehoon.dto.WorksheetSummary;
 import com.dungeon.heotaehoon.entity.Worksheet;
 import com.dungeon.heotaehoon.entity.WorksheetQuestion;
 import com.dungeon.heotaehoon.repository.WorksheetQuestionRepository;
 import com.dungeon.heotaehoon.repository.WorksheetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -22,11 +28,30 @@ public class WorksheetService {
 
     private final WorksheetRepository worksheetRepository;
     private final WorksheetQuestionRepository questionRepository;
+    private final BlobStore blobStore;
 
     public List<Worksheet> getAllWorksheets() {
         return worksheetRepository.findAll();
     }
 
+    public List<WorksheetSummary> getWorksheetSummaries(String category, LocalDateTime afterCreatedAt,
+                                                        String afterId, int limit) {
+        Pageable page = limit > 0 ? PageRequest.of(0, limit) : Pageable.unpaged();
+        return worksheetRepository.findSummaries(category, afterCreatedAt, afterId, page);
+    }
+
+    public List<Worksheet> getWorksheetsByIds(List<String> ids) {
+        return worksheetRepository.findAllById(ids);
+    }
+
+    public List<Worksheet> getWorksheetsByCategory(String category) {
+        return worksheetRepository.findByCategory(category);
+    }
+
+    public List<Worksheet> getWorksheetsByGroupId(String groupId) {
+        return worksheetRepository.findByGroupId(groupId);
+    }
+
     public Worksheet getWorksheetById(String id) {
         return worksheetRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("문제지를 찾을 수 없습니다"));
@@ -41,6 +66,10 @@ public class WorksheetService {
         return questionRepository.countByWorksheetId(worksheetId);
     }
 
+    public QuestionSetVersion getQuestionSetVersion(String worksheetId) {
+        return questionRepository.findQuestionSetVersion(worksheetId);
+    }
+
     @Transactional
     public Worksheet createWorksheet(String title, String description, String category, List<Map<String, Object>> questions, MultipartFile originalFile) {
         log.info("Creating worksheet with {} questions", questions.size());
@@ -53,12 +82,14 @@ public class WorksheetService {
                 .updatedAt(LocalDateTime.now());
         
         if (originalFile != null && !originalFile.isEmpty()) {
-            try {
+            try (InputStream inputStream = originalFile.getInputStream()) {
+                BlobStore.Blob blob = blobStore.put(inputStream);
                 worksheetBuilder
-                    .originalFile(originalFile.getBytes())
+                    .originalFileHash(blob.hash())
+                    .originalFileSize(blob.size())
                     .originalFileName(originalFile.getOriginalFilename())
                     .originalFileType(originalFile.getContentType());
-                log.info("Original file saved: {}", originalFile.getOriginalFilename());
+                log.info("Original file saved: {} ({})", originalFile.getOriginalFilename(), blob.hash());
             } catch (IOException e) {
                 log.error("Failed to save original file", e);
             }
@@ -129,12 +160,12 @@ public class WorksheetService {
         questionRepository.deleteById(questionId);
     }
 
-    public byte[] getOriginalFile(String worksheetId) {
+    public Resource getOriginalFile(String worksheetId) throws IOException {
         Worksheet worksheet = getWorksheetById(worksheetId);
-        if (worksheet.getOriginalFile() == null) {
+        if (worksheet.getOriginalFileHash() == null) {
             throw new RuntimeException("원본 파일이 없습니다");
         }
-        return worksheet.getOriginalFile();
+        return blobStore.get(worksheet.getOriginalFileHash());
     }
 
     public String getOriginalFileName(String worksheetId) {
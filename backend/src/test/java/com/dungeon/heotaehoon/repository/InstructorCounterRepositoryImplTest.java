@@ -0,0 +1,137 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.PostgresTestSupport;
+import com.dungeon.heotaehoon.dto.InstructorProgress;
+import com.dungeon.heotaehoon.entity.Instructor;
+import com.dungeon.heotaehoon.service.LevelCurve;
+import com.dungeon.heotaehoon.service.OptimisticLockRetry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(OptimisticLockRetry.class)
+class InstructorCounterRepositoryImplTest extends PostgresTestSupport {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 500;
+    private static final int EXP_PER_CALL = 37;
+    private static final int RAGE_ROUNDS = 100;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @AfterEach
+    void cleanUp() {
+        instructorRepository.deleteAll();
+    }
+
+    @Test
+    void parallelExpIncrementsReportEachLevelUpOnce() throws Exception {
+        String instructorId = newInstructor("counter").getId();
+        AtomicInteger levelsGained = new AtomicInteger();
+
+        runInParallel(thread -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                InstructorProgress progress = instructorRepository.incrementExp(instructorId, EXP_PER_CALL)
+                        .orElseThrow();
+                if (progress.getLevel() > progress.getPreviousLevel()) {
+                    levelsGained.addAndGet(progress.getLevel() - progress.getPreviousLevel());
+                    instructorRepository.applyLevelUp(instructorId, progress.getLevel(), "Lv." + progress.getLevel());
+                }
+            }
+        });
+
+        long totalExp = (long) THREADS * ROUNDS * EXP_PER_CALL;
+        Instructor instructor = instructorRepository.findById(instructorId).orElseThrow();
+        assertEquals(LevelCurve.levelForTotal(totalExp), instructor.getLevel());
+        assertEquals(totalExp, LevelCurve.totalExp(instructor.getLevel(), instructor.getExp()));
+        assertEquals(instructor.getLevel() - 1, levelsGained.get());
+        assertEquals("Lv." + instructor.getLevel(), instructor.getCurrentTitle());
+    }
+
+    @Test
+    void retriedRageUpdatesAreNotLost() throws Exception {
+        String instructorId = newInstructor("rage").getId();
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        runInParallel(thread -> {
+            for (int i = 0; i < RAGE_ROUNDS; i++) {
+                try {
+                    optimisticLockRetry.execute(() -> {
+                        Instructor instructor = instructorRepository.findById(instructorId).orElseThrow();
+                        instructor.setRageGauge(instructor.getRageGauge() + 1);
+                        return instructorRepository.saveAndFlush(instructor);
+                    });
+                    applied.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        Instructor instructor = instructorRepository.findById(instructorId).orElseThrow();
+        assertTrue(applied.get() > 0);
+        assertEquals(THREADS * RAGE_ROUNDS, applied.get() + conflicts.get());
+        assertEquals(applied.get(), instructor.getRageGauge());
+    }
+
+    private Instructor newInstructor(String username) {
+        return instructorRepository.save(Instructor.builder()
+                .username(username)
+                .password("password")
+                .name(username)
+                .build());
+    }
+
+    private void runInParallel(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,166 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.PostgresTestSupport;
+import com.dungeon.heotaehoon.dto.ProgressDelta;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+import com.dungeon.heotaehoon.entity.Student;
+import com.dungeon.heotaehoon.service.LeaderboardService;
+import com.dungeon.heotaehoon.service.LevelCurve;
+import com.dungeon.heotaehoon.service.StudentProgressAccumulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudentProgressAccumulator.class, LeaderboardService.class})
+class StudentCounterRepositoryImplTest extends PostgresTestSupport {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 500;
+    private static final int EXP_PER_CALL = 37;
+    private static final int POINTS_PER_CALL = 5;
+    private static final int SPEND_PER_CALL = 7;
+    private static final int FLUSH_EVERY = 25;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentProgressAccumulator progressAccumulator;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    void parallelIncrementsAreNotLost() throws Exception {
+        String studentId = newStudent("counter").getId();
+
+        runInParallel(thread -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                studentRepository.incrementProgress(studentId, ProgressDelta.builder().exp(EXP_PER_CALL).build());
+                studentRepository.incrementProgress(studentId, ProgressDelta.builder().points(POINTS_PER_CALL).build());
+            }
+        });
+
+        long totalExp = (long) THREADS * ROUNDS * EXP_PER_CALL;
+        StudentProgress progress = studentRepository.findProgressById(studentId).orElseThrow();
+        assertEquals(THREADS * ROUNDS * POINTS_PER_CALL, progress.getPoints());
+        assertEquals(LevelCurve.levelForTotal(totalExp), progress.getLevel());
+        assertEquals(totalExp, LevelCurve.totalExp(progress.getLevel(), progress.getExp()));
+        assertTrue(progress.getExp() >= 0);
+    }
+
+    @Test
+    void parallelBatchIncrementsAreNotLost() throws Exception {
+        String first = newStudent("batch-1").getId();
+        String second = newStudent("batch-2").getId();
+
+        runInParallel(thread -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                List<String> missing = studentRepository.incrementProgress(Map.of(
+                        first, ProgressDelta.builder().exp(EXP_PER_CALL).correct(1).build(),
+                        second, ProgressDelta.builder().points(POINTS_PER_CALL).wrong(1).build()));
+                assertTrue(missing.isEmpty());
+            }
+        });
+
+        long totalExp = (long) THREADS * ROUNDS * EXP_PER_CALL;
+        StudentProgress firstProgress = studentRepository.findProgressById(first).orElseThrow();
+        assertEquals(LevelCurve.levelForTotal(totalExp), firstProgress.getLevel());
+        assertEquals(totalExp, LevelCurve.totalExp(firstProgress.getLevel(), firstProgress.getExp()));
+        assertEquals(THREADS * ROUNDS, firstProgress.getTotalCorrect());
+
+        StudentProgress secondProgress = studentRepository.findProgressById(second).orElseThrow();
+        assertEquals(THREADS * ROUNDS * POINTS_PER_CALL, secondProgress.getPoints());
+        assertEquals(THREADS * ROUNDS, secondProgress.getTotalWrong());
+        assertEquals(1, secondProgress.getLevel());
+    }
+
+    @Test
+    void accumulatorFlushesEveryEarnedAndSpentPoint() throws Exception {
+        String studentId = newStudent("accumulator").getId();
+        AtomicInteger spends = new AtomicInteger();
+
+        runInParallel(thread -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                progressAccumulator.addExp(studentId, EXP_PER_CALL);
+                progressAccumulator.addPoints(studentId, POINTS_PER_CALL);
+                if (progressAccumulator.spendPoints(studentId, SPEND_PER_CALL).isPresent()) {
+                    spends.incrementAndGet();
+                }
+                if (i % FLUSH_EVERY == thread) {
+                    progressAccumulator.flushAll();
+                }
+            }
+        });
+        progressAccumulator.flushOnShutdown();
+
+        long totalExp = (long) THREADS * ROUNDS * EXP_PER_CALL;
+        int expectedPoints = THREADS * ROUNDS * POINTS_PER_CALL - spends.get() * SPEND_PER_CALL;
+        StudentProgress progress = studentRepository.findProgressById(studentId).orElseThrow();
+        assertTrue(spends.get() > 0);
+        assertEquals(expectedPoints, progress.getPoints());
+        assertEquals(LevelCurve.levelForTotal(totalExp), progress.getLevel());
+        assertEquals(totalExp, LevelCurve.totalExp(progress.getLevel(), progress.getExp()));
+
+        Student overlaid = progressAccumulator.overlay(studentRepository.findById(studentId).orElseThrow());
+        assertEquals(expectedPoints, overlaid.getPoints());
+        assertEquals(progress.getLevel(), overlaid.getLevel());
+    }
+
+    private Student newStudent(String username) {
+        return studentRepository.save(Student.builder()
+                .username(username)
+                .displayName(username)
+                .build());
+    }
+
+    private void runInParallel(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,87 @@
+package com.dungeon.heotaehoon.repository;
+
+import com.dungeon.heotaehoon.PostgresTestSupport;
+import com.dungeon.heotaehoon.dto.WorksheetSummary;
+import com.dungeon.heotaehoon.entity.Worksheet;
+import com.dungeon.heotaehoon.entity.WorksheetQuestion;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WorksheetRepositoryTest extends PostgresTestSupport {
+
+    private static final int WORKSHEETS = 25;
+    private static final int QUESTIONS_PER_WORKSHEET = 3;
+
+    @Autowired
+    private WorksheetRepository worksheetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void summariesUseTheSameStatementCountForOneAndManyWorksheets() {
+        seed(1);
+        long single = summaryStatements(1);
+
+        seed(WORKSHEETS - 1);
+        long many = summaryStatements(WORKSHEETS);
+
+        assertEquals(single, many);
+        assertTrue(many > 0);
+    }
+
+    private long summaryStatements(int expectedWorksheets) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<WorksheetSummary> summaries = worksheetRepository.findSummaries(null, null, null, Pageable.unpaged());
+
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(expectedWorksheets, summaries.size());
+        summaries.forEach(summary -> assertEquals(QUESTIONS_PER_WORKSHEET, summary.getQuestionCount().intValue()));
+        return statements;
+    }
+
+    private void seed(int count) {
+        for (int w = 0; w < count; w++) {
+            Worksheet worksheet = entityManager.persist(Worksheet.builder()
+                    .title("worksheet-" + w)
+                    .category("자료구조")
+                    .build());
+            for (int q = 1; q <= QUESTIONS_PER_WORKSHEET; q++) {
+                entityManager.persist(WorksheetQuestion.builder()
+                        .worksheet(worksheet)
+                        .questionNumber(q)
+                        .questionType("subjective")
+                        .questionText("question " + q)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.RankedStudent;
+import com.dungeon.heotaehoon.dto.StudentProgress;
+import com.dungeon.heotaehoon.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "leaderboard.benchmark", matches = "true")
+class LeaderboardBenchmarkTest {
+
+    private static final int OPERATIONS = 20_000;
+    private static final int TOP = 10;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void compareIndexWithFullSort(int studentCount) {
+        List<RankedStudent> students = students(studentCount);
+        StudentRepository repository = mock(StudentRepository.class);
+        when(repository.findAllRanked()).thenReturn(students);
+        LeaderboardService leaderboard = new LeaderboardService(repository);
+
+        long started = System.nanoTime();
+        leaderboard.rebuild();
+        long rebuildNanos = System.nanoTime() - started;
+        assertEquals(studentCount, leaderboard.totalCount());
+
+        Random random = new Random(11);
+        started = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            RankedStudent student = students.get(random.nextInt(studentCount));
+            leaderboard.applyProgress(new StudentProgress(student.getId(), student.getLevel(), student.getExp(),
+                    random.nextInt(100_000), student.getTotalCorrect() + 1, student.getTotalWrong(), 0));
+        }
+        long updateNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        long rankSum = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            String id = students.get(random.nextInt(studentCount)).getId();
+            rankSum += leaderboard.rankOf(LeaderboardService.POINTS, id);
+            leaderboard.top(LeaderboardService.POINTS, TOP);
+        }
+        long queryNanos = System.nanoTime() - started;
+        assertTrue(rankSum > 0);
+
+        int sortRounds = Math.max(1, OPERATIONS / studentCount);
+        started = System.nanoTime();
+        for (int i = 0; i < sortRounds; i++) {
+            List<RankedStudent> sorted = new ArrayList<>(students);
+            sorted.sort(Comparator.comparing(RankedStudent::getPoints).reversed());
+            assertEquals(studentCount, sorted.size());
+        }
+        long sortNanos = (System.nanoTime() - started) / sortRounds;
+
+        log.info("Leaderboard benchmark: {} students, rebuild {} ms, {} updates/s, {} rank+top queries/s, full sort {} ms per query",
+                studentCount,
+                String.format("%.2f", rebuildNanos / 1e6),
+                String.format("%.0f", OPERATIONS / (updateNanos / 1e9)),
+                String.format("%.0f", OPERATIONS / (queryNanos / 1e9)),
+                String.format("%.3f", sortNanos / 1e6));
+    }
+
+    private static List<RankedStudent> students(int count) {
+        Random random = new Random(7);
+        List<RankedStudent> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(RankedStudent.builder()
+                    .id("student-" + i)
+                    .displayName("학생" + i)
+                    .level(1 + random.nextInt(50))
+                    .exp(random.nextInt(1_000))
+                    .points(random.nextInt(100_000))
+                    .totalCorrect(random.nextInt(500))
+                    .totalWrong(random.nextInt(500))
+                    .build());
+        }
+        return students;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dungeon.heotaehoon.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LectureSectionBufferTest {
+
+    private static final String LECTURE = "오늘 강의 안내[도입]스택이란?[핵심개념]LIFO 구조[예제]괄호 검사[정리]끝";
+
+    @Test
+    void completesSectionWhenHeaderIsSplitAcrossDeltas() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        assertEquals(List.of(), buffer.append("[도입]스택 소개 [핵심"));
+        List<LectureSectionBuffer.Section> completed = buffer.append("개념] 후입선출");
+
+        assertEquals(List.of(new LectureSectionBuffer.Section("도입", "스택 소개")), completed);
+        assertEquals(Optional.of(new LectureSectionBuffer.Section("핵심개념", "후입선출")), buffer.finish());
+    }
+
+    @Test
+    void emitsTextBeforeTheFirstHeaderAsPreamble() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        List<LectureSectionBuffer.Section> completed = buffer.append("안녕하세요 여러분\n[도입]시작");
+
+        assertEquals(List.of(new LectureSectionBuffer.Section(LectureSectionBuffer.PREAMBLE, "안녕하세요 여러분")),
+                completed);
+        assertEquals(Optional.of(new LectureSectionBuffer.Section("도입", "시작")), buffer.finish());
+    }
+
+    @Test
+    void skipsEmptyPreamble() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        assertEquals(List.of(), buffer.append("  \n[도입]"));
+        assertEquals(Optional.of(new LectureSectionBuffer.Section("도입", "")), buffer.finish());
+    }
+
+    @Test
+    void finishOnEmptyBufferReturnsNothing() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        assertTrue(buffer.finish().isEmpty());
+        buffer.append("");
+        assertTrue(buffer.finish().isEmpty());
+    }
+
+    @Test
+    void finishWithoutHeadersReturnsPreamble() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        assertEquals(List.of(), buffer.append("헤더 없는 "));
+        assertEquals(List.of(), buffer.append("강의"));
+
+        assertEquals(Optional.of(new LectureSectionBuffer.Section(LectureSectionBuffer.PREAMBLE, "헤더 없는 강의")),
+                buffer.finish());
+        assertTrue(buffer.finish().isEmpty());
+    }
+
+    @Test
+    void ignoresUnknownBracketedText() {
+        LectureSectionBuffer buffer = new LectureSectionBuffer();
+
+        assertEquals(List.of(), buffer.append("[도입]배열[0]과 [참고] 표기"));
+
+        assertEquals(Optional.of(new LectureSectionBuffer.Section("도입", "배열[0]과 [참고] 표기")), buffer.finish());
+    }
+
+    @Test
+    void sameSectionsForEveryChunkSize() {
+        List<LectureSectionBuffer.Section> expected = List.of(
+                new LectureSectionBuffer.Section(LectureSectionBuffer.PREAMBLE, "오늘 강의 안내"),
+                new LectureSectionBuffer.Section("도입", "스택이란?"),
+                new LectureSectionBuffer.Section("핵심개념", "LIFO 구조"),
+                new LectureSectionBuffer.Section("예제", "괄호 검사"),
+                new LectureSectionBuffer.Section("정리", "끝"));
+
+        for (int chunk = 1; chunk <= LECTURE.length(); chunk++) {
+            LectureSectionBuffer buffer = new LectureSectionBuffer();
+            List<LectureSectionBuffer.Section> sections = new ArrayList<>();
+            for (int start = 0; start < LECTURE.length(); start += chunk) {
+                sections.addAll(buffer.append(LECTURE.substring(start, Math.min(LECTURE.length(), start + chunk))));
+            }
+            buffer.finish().ifPresent(sections::add);
+
+            assertEquals(expected, sections, "chunk size " + chunk);
+        }
+    }
+}
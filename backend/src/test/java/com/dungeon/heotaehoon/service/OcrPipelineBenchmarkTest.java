@@ -0,0 +1,132 @@
+package com.dungeon.heotaehoon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.Tesseract;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "ocr.benchmark", matches = "true")
+class OcrPipelineBenchmarkTest {
+
+    private static final int RENDER_DPI = 300;
+
+    private final String datapath = System.getProperty("ocr.tessdata-path",
+            System.getenv().getOrDefault("TESSDATA_PREFIX", "/usr/share/tessdata"));
+    private final String language = System.getProperty("ocr.language", "eng");
+    private final int pageCount = Integer.getInteger("ocr.benchmark.pages", 30);
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void comparePipelineWithSerialOcr() throws Exception {
+        File pdf = System.getProperty("ocr.benchmark.pdf") != null
+                ? new File(System.getProperty("ocr.benchmark.pdf"))
+                : scannedPdf(workDir.resolve("scanned.pdf").toFile(), pageCount);
+
+        long serialNanos = serial(pdf);
+
+        TesseractPool pool = new TesseractPool(datapath, language, 0, 30000, 200, false);
+        OcrService ocrService = new OcrService(pool, new OcrResultCache(0, 0, ""),
+                0, 134217728L, 16777216L, 8700000L, false, 33554432L);
+        try {
+            long started = System.nanoTime();
+            OcrService.PdfExtraction extraction = ocrService.extractFromPdf(new FileSystemResource(pdf),
+                    OcrService.PageProgress.NONE);
+            long pipelineNanos = System.nanoTime() - started;
+
+            assertFalse(extraction.pages().isEmpty());
+            assertEquals(0, extraction.pages().stream()
+                    .filter(page -> OcrService.SOURCE_FAILED.equals(page.source()))
+                    .count());
+
+            int pages = extraction.pages().size();
+            log.info("OCR benchmark: {} pages, serial {} ms ({} pages/s), pipeline {} ms ({} pages/s), speedup {}x",
+                    pages,
+                    serialNanos / 1_000_000, String.format("%.2f", pages / (serialNanos / 1e9)),
+                    pipelineNanos / 1_000_000, String.format("%.2f", pages / (pipelineNanos / 1e9)),
+                    String.format("%.2f", (double) serialNanos / pipelineNanos));
+        } finally {
+            ocrService.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    private long serial(File pdf) throws Exception {
+        Tesseract tesseract = new Tesseract();
+        tesseract.setDatapath(datapath);
+        tesseract.setLanguage(language);
+
+        long started = System.nanoTime();
+        try (PDDocument document = PDDocument.load(pdf)) {
+            PDFRenderer renderer = new PDFRenderer(document);
+            for (int i = 0; i < document.getNumberOfPages(); i++) {
+                BufferedImage image = renderer.renderImageWithDPI(i, RENDER_DPI, ImageType.GRAY);
+                tesseract.doOCR(image);
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static File scannedPdf(File target, int pages) throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage(PDRectangle.A4);
+                document.addPage(pdPage);
+
+                PDImageXObject image = LosslessFactory.createFromImage(document, scannedPage(page));
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.drawImage(image, 0, 0, PDRectangle.A4.getWidth(), PDRectangle.A4.getHeight());
+                }
+            }
+            document.save(target);
+        }
+        return target;
+    }
+
+    private static BufferedImage scannedPage(int page) {
+        int width = Math.round(PDRectangle.A4.getWidth() / 72 * RENDER_DPI);
+        int height = Math.round(PDRectangle.A4.getHeight() / 72 * RENDER_DPI);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(Color.BLACK);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 42));
+            int y = 200;
+            for (int question = 1; question <= 8; question++) {
+                int number = (page - 1) * 8 + question;
+                graphics.drawString(number + ". Which data structure answers query " + number + " fastest?", 150, y);
+                graphics.drawString("A. Array    B. Linked list    C. Hash table    D. Binary tree", 200, y + 70);
+                y += 380;
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,176 @@
+package com.dungeon.heotaehoon.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OcrServiceTest {
+
+    private static final long HEAP_BYTES = 64L * 1024 * 1024;
+    private static final long MAX_PART_BYTES = 64L * 1024;
+
+    @TempDir
+    Path workDir;
+
+    private final CountDownLatch blockRecognition = new CountDownLatch(1);
+    private OcrService ocrService;
+
+    @BeforeEach
+    void setUp() {
+        TesseractPool tesseractPool = mock(TesseractPool.class);
+        when(tesseractPool.recognize(any(), anyInt())).thenAnswer(invocation -> {
+            blockRecognition.await();
+            return "text";
+        });
+        ocrService = new OcrService(tesseractPool, new OcrResultCache(0, 0, ""),
+                1, HEAP_BYTES, 16777216L, 8700000L, false, MAX_PART_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockRecognition.countDown();
+        ocrService.shutdown();
+    }
+
+    @Test
+    void corruptImageReturnsHeapBudgetOfQueuedImages() throws Exception {
+        Path docx = docx(workDir.resolve("corrupt.docx"), png(Color.BLACK), png(Color.GRAY), corruptPng());
+
+        assertThrows(RuntimeException.class,
+                () -> ocrService.extractQuestionsFromDocx(new FileSystemResource(docx), OcrService.PageProgress.NONE));
+
+        assertFullBudgetAvailable();
+    }
+
+    @Test
+    void imagesAboveThePartLimitAreSkipped() throws Exception {
+        byte[] image = noisePng();
+        assertTrue(image.length > MAX_PART_BYTES);
+        Path docx = docx(workDir.resolve("large-image.docx"), image);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> ocrService.extractQuestionsFromDocx(new FileSystemResource(docx), OcrService.PageProgress.NONE));
+
+        assertFullBudgetAvailable();
+    }
+
+    @Test
+    void documentAboveThePartLimitIsRejected() throws Exception {
+        Path docx = docx(workDir.resolve("large-document.docx"), "가".repeat((int) MAX_PART_BYTES));
+
+        assertThrows(RuntimeException.class,
+                () -> ocrService.extractQuestionsFromDocx(new FileSystemResource(docx), OcrService.PageProgress.NONE));
+    }
+
+    private void assertFullBudgetAvailable() throws InterruptedException {
+        Object budget = ocrService.engineStats().get("heapBudgetKb");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!budget.equals(ocrService.engineStats().get("heapAvailableKb")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(budget, ocrService.engineStats().get("heapAvailableKb"));
+    }
+
+    private static byte[] png(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(color);
+            graphics.fillRect(0, 0, 64, 64);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] noisePng() throws IOException {
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_BYTE_GRAY);
+        Random random = new Random(3);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int gray = random.nextInt(256);
+                image.setRGB(x, y, new Color(gray, gray, gray).getRGB());
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] corruptPng() {
+        byte[] data = new byte[64];
+        Arrays.fill(data, (byte) 0x5a);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+        System.arraycopy(signature, 0, data, 0, signature.length);
+        return data;
+    }
+
+    private static Path docx(Path target, byte[]... images) throws IOException {
+        return docx(target, "", images);
+    }
+
+    private static Path docx(Path target, String text, byte[]... images) throws IOException {
+        StringBuilder body = new StringBuilder("<w:p><w:r><w:t>").append(text).append("</w:t></w:r></w:p>");
+        StringBuilder relationships = new StringBuilder();
+        for (int i = 1; i <= images.length; i++) {
+            body.append("<w:p><w:r><w:t>image ").append(i).append("</w:t></w:r>")
+                    .append("<w:r><w:drawing><a:blip r:embed=\"rId").append(i).append("\"/></w:drawing></w:r></w:p>");
+            relationships.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Target=\"media/image").append(i).append(".png\"/>");
+        }
+
+        try (OutputStream file = Files.newOutputStream(target); ZipOutputStream zip = new ZipOutputStream(file)) {
+            write(zip, "word/document.xml", "<w:document"
+                    + " xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\""
+                    + " xmlns:a=\"http://schemas.openxmlformats.org/drawingml/2006/main\""
+                    + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+                    + "<w:body>" + body + "</w:body></w:document>");
+            write(zip, "word/_rels/document.xml.rels",
+                    "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + relationships + "</Relationships>");
+            for (int i = 1; i <= images.length; i++) {
+                zip.putNextEntry(new ZipEntry("word/media/image" + i + ".png"));
+                zip.write(images[i - 1]);
+                zip.closeEntry();
+            }
+        }
+        return target;
+    }
+
+    private static void write(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
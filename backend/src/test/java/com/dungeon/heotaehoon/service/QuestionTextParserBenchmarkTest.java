@@ -0,0 +1,137 @@
+package com.dungeon.heotaehoon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "parser.benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionTextParserBenchmarkTest {
+
+    private static final int PAGES = 100;
+    private static final int QUESTIONS_PER_PAGE = 5;
+
+    private static final Pattern LEGACY_QUESTION = Pattern.compile("(\\d+)\\.\\s*(.+?)(?=(?:\\d+\\.|$))", Pattern.DOTALL);
+    private static final Pattern LEGACY_OPTION = Pattern.compile("(\\d+)\\)\\s*([^\\d)]+?)(?=\\d+\\)|$)", Pattern.DOTALL);
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = syntheticOcrText();
+    }
+
+    @Benchmark
+    public List<OcrService.QuestionData> legacyRegex() {
+        return legacyParse(text);
+    }
+
+    @Benchmark
+    public List<OcrService.QuestionData> singlePass() {
+        return QuestionTextParser.parse(text);
+    }
+
+    @Test
+    void compareWithLegacyRegex() throws RunnerException {
+        String sample = syntheticOcrText();
+        assertEquals(PAGES * QUESTIONS_PER_PAGE, QuestionTextParser.parse(sample).size());
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(QuestionTextParserBenchmarkTest.class.getName())
+                .build()).run();
+
+        for (RunResult result : results) {
+            log.info("Parser benchmark: {} chars, {} {} ms/op",
+                    sample.length(),
+                    result.getParams().getBenchmark(),
+                    String.format("%.3f", result.getPrimaryResult().getScore()));
+        }
+    }
+
+    private static String syntheticOcrText() {
+        StringBuilder text = new StringBuilder();
+        Random random = new Random(7);
+        int number = 1;
+        for (int page = 1; page <= PAGES; page++) {
+            text.append("- ").append(page).append(" -\n");
+            for (int q = 0; q < QUESTIONS_PER_PAGE; q++) {
+                text.append(number++)
+                        .append(". 다음 코드에서 변수 x 의 값이 3.14 일 때 출력 결과로 옳은 것은 무엇인가요 설명 ")
+                        .append("lorem ipsum dolor sit amet ".repeat(6))
+                        .append("\n");
+                if (random.nextBoolean()) {
+                    text.append("① 첫 번째 보기 ② 두 번째 보기 ③ 세 번째 보기 ④ 네 번째 보기\n");
+                } else {
+                    text.append("1) 하나\n2) 둘\n3) 셋\n4) 넷\n");
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static List<OcrService.QuestionData> legacyParse(String text) {
+        List<OcrService.QuestionData> questions = new ArrayList<>();
+        Matcher matcher = LEGACY_QUESTION.matcher(text);
+        while (matcher.find()) {
+            String content = matcher.group(2).trim();
+            if (content.length() < 10) {
+                continue;
+            }
+            OcrService.QuestionData question = new OcrService.QuestionData();
+            question.setQuestionNumber(Integer.parseInt(matcher.group(1).trim()));
+            int optionStart = content.indexOf("1)");
+            if (optionStart == -1) {
+                optionStart = content.indexOf("①");
+            }
+            if (optionStart > 0) {
+                question.setQuestionText(content.substring(0, optionStart).trim());
+                String[] options = new String[4];
+                Matcher optionMatcher = LEGACY_OPTION.matcher(content.substring(optionStart).trim());
+                while (optionMatcher.find()) {
+                    int option = Integer.parseInt(optionMatcher.group(1).trim());
+                    if (option >= 1 && option <= 4) {
+                        options[option - 1] = optionMatcher.group(2).trim();
+                    }
+                }
+                question.setOptionA(options[0]);
+                question.setOptionB(options[1]);
+                question.setOptionC(options[2]);
+                question.setOptionD(options[3]);
+            } else {
+                question.setQuestionText(content);
+            }
+            questions.add(question);
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,66 @@
+package com.dungeon.heotaehoon.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuestionTextParserGoldenTest {
+
+    private static final String GOLDEN_DIRECTORY = "/ocr-golden";
+
+    static Stream<String> goldenCases() throws IOException, URISyntaxException {
+        Path directory = Paths.get(QuestionTextParserGoldenTest.class.getResource(GOLDEN_DIRECTORY).toURI());
+        List<String> cases = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".txt"))
+                    .map(name -> name.substring(0, name.length() - ".txt".length()))
+                    .sorted()
+                    .forEach(cases::add);
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("goldenCases")
+    void matchesGoldenOutput(String name) throws Exception {
+        Path directory = Paths.get(getClass().getResource(GOLDEN_DIRECTORY).toURI());
+        String input = Files.readString(directory.resolve(name + ".txt"), StandardCharsets.UTF_8);
+        List<String> expected = Files.readAllLines(directory.resolve(name + ".expected"), StandardCharsets.UTF_8)
+                .stream()
+                .filter(line -> !line.isEmpty())
+                .toList();
+
+        List<String> actual = QuestionTextParser.parse(input).stream()
+                .map(QuestionTextParserGoldenTest::format)
+                .toList();
+
+        assertEquals(expected, actual, name);
+    }
+
+    private static String format(OcrService.QuestionData question) {
+        return String.join("|",
+                String.valueOf(question.getQuestionNumber()),
+                question.getQuestionType(),
+                escape(question.getQuestionText()),
+                escape(question.getOptionA()),
+                escape(question.getOptionB()),
+                escape(question.getOptionC()),
+                escape(question.getOptionD()));
+    }
+
+    private static String escape(String value) {
+        return value == null ? "null" : value.replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,106 @@
+package com.dungeon.heotaehoon.service;
+
+import com.dungeon.heotaehoon.dto.QuestionSetVersion;
+import com.dungeon.heotaehoon.entity.Worksheet;
+import com.dungeon.heotaehoon.entity.WorksheetQuestion;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "export.benchmark", matches = "true")
+class WorksheetExportBenchmarkTest {
+
+    private static final int QUESTIONS_PER_WORKSHEET = 20;
+
+    private final int documentCount = Integer.getInteger("export.benchmark.documents", 200);
+
+    @Test
+    void compareSingleWorkerWithAllProcessors() throws Exception {
+        List<WorksheetExportService.Document> documents = documents(documentCount);
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        export(documents, 1);
+        double serial = export(documents, 1);
+        export(documents, processors);
+        double parallel = export(documents, processors);
+
+        log.info("Export benchmark: {} documents, 1 worker {} docs/s, {} workers {} docs/s, speedup {}x",
+                documents.size(),
+                String.format("%.1f", serial),
+                processors, String.format("%.1f", parallel),
+                String.format("%.2f", parallel / serial));
+    }
+
+    private double export(List<WorksheetExportService.Document> documents, int workers) throws IOException {
+        WorksheetExportService exportService = new WorksheetExportService(null, new WorksheetPdfRenderer(0),
+                null, workers, 0);
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long started = System.nanoTime();
+            exportService.writeZip(documents, output);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            assertEquals(documents.size(), entries(output.toByteArray()));
+            return documents.size() / seconds;
+        } finally {
+            exportService.shutdown();
+        }
+    }
+
+    private static int entries(byte[] zip) throws IOException {
+        int count = 0;
+        try (ZipInputStream input = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = input.getNextEntry()) != null) {
+                if (entry.getName().endsWith(".pdf")) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static List<WorksheetExportService.Document> documents(int count) {
+        List<WorksheetExportService.Document> documents = new ArrayList<>(count);
+        for (int w = 0; w < count; w++) {
+            Worksheet worksheet = Worksheet.builder()
+                    .id("worksheet-" + w)
+                    .title("자료구조 문제지 " + w)
+                    .description("스택과 큐 복습")
+                    .category("자료구조")
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            List<WorksheetQuestion> questions = new ArrayList<>(QUESTIONS_PER_WORKSHEET);
+            for (int q = 1; q <= QUESTIONS_PER_WORKSHEET; q++) {
+                questions.add(WorksheetQuestion.builder()
+                        .worksheet(worksheet)
+                        .questionNumber(q)
+                        .questionType("multiple_choice")
+                        .questionText("다음 중 스택의 연산 " + q + " 에 해당하는 것은 무엇인가요?")
+                        .optionA("push")
+                        .optionB("enqueue")
+                        .optionC("insert")
+                        .optionD("append")
+                        .correctAnswer("A")
+                        .points(5)
+                        .build());
+            }
+            QuestionSetVersion questionSet = new QuestionSetVersion((long) questions.size(), LocalDateTime.now());
+            documents.add(new WorksheetExportService.Document("worksheet-" + w + ".pdf", worksheet, questionSet,
+                    questions, null));
+        }
+        return documents;
+    }
+}
@@ -76,6 +76,7 @@ CREATE TABLE quizzes (
     correct_answer CHAR(1) NOT NULL,
     exp_reward INTEGER DEFAULT 10,
     difficulty INTEGER DEFAULT 1,
+    raid_topic VARCHAR(255),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -167,7 +168,8 @@ CREATE TABLE worksheets (
     description TEXT,
     category VARCHAR(100),
     group_id UUID REFERENCES student_groups(id),
-    original_file BYTEA,
+    original_file_hash VARCHAR(64),
+    original_file_size BIGINT,
     original_file_name VARCHAR(255),
     original_file_type VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -183,6 +185,8 @@ CREATE TABLE pdf_worksheets (
     category VARCHAR(100) NOT NULL,
     difficulty_level INTEGER DEFAULT 1,
     pdf_url VARCHAR(500),
+    pdf_hash VARCHAR(64),
+    pdf_size BIGINT,
     total_questions INTEGER DEFAULT 0,
     is_active BOOLEAN DEFAULT true,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -263,6 +267,7 @@ CREATE TABLE shop_items (
 CREATE INDEX idx_students_username ON students(username);
 CREATE INDEX idx_students_group ON students(group_id);
 CREATE INDEX idx_lessons_group ON lessons(group_id);
+CREATE INDEX idx_quizzes_raid_topic ON quizzes(raid_topic, created_at);
 CREATE INDEX idx_quiz_attempts_student ON quiz_attempts(student_id);
 CREATE INDEX idx_quiz_attempts_quiz ON quiz_attempts(quiz_id);
 CREATE INDEX idx_exp_logs_student ON exp_logs(student_id);
@@ -272,6 +277,9 @@ CREATE INDEX idx_class_rankings_lesson ON class_rankings(lesson_id);
 CREATE INDEX idx_rage_dialogues_instructor ON rage_dialogues(instructor_id);
 CREATE INDEX idx_pdf_worksheets_instructor ON pdf_worksheets(instructor_id);
 CREATE INDEX idx_pdf_worksheets_category ON pdf_worksheets(category);
+CREATE INDEX idx_worksheets_created_at_id ON worksheets(created_at DESC, id DESC);
+CREATE INDEX idx_worksheets_original_file_hash ON worksheets(original_file_hash);
+CREATE INDEX idx_pdf_worksheets_pdf_hash ON pdf_worksheets(pdf_hash);
 CREATE INDEX idx_worksheet_questions_worksheet ON worksheet_questions(worksheet_id);
 CREATE INDEX idx_student_submissions_student ON student_submissions(student_id);
 CREATE INDEX idx_student_submissions_worksheet ON student_submissions(worksheet_id);